@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.items;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.sdk.core.AttributeIds;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.serialization.UaStructure;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.DeadbandType;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.DataChangeFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * {@link MonitoredDataItem#setValue(DataValue)} followed by draining the item's queue, the way a Subscription does
+ * when it publishes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MonitoredDataItemBenchmark {
+
+    @Param({"1", "10"})
+    private int queueSize;
+
+    @Param({"None", "Absolute"})
+    private String deadband;
+
+    private final List<UaStructure> notifications = Lists.newArrayList();
+
+    private MonitoredDataItem item;
+
+    private double value = 0.0;
+
+    @Setup
+    public void setup() throws UaException {
+        ReadValueId readValueId = new ReadValueId(
+                new NodeId(2, "Benchmark"), uint(AttributeIds.Value), null, QualifiedName.NULL_VALUE);
+
+        DataChangeFilter filter = new DataChangeFilter(
+                DataChangeTrigger.StatusValue,
+                uint(DeadbandType.valueOf(deadband).getValue()),
+                0.5
+        );
+
+        item = new MonitoredDataItem(
+                uint(1), readValueId, MonitoringMode.Reporting, TimestampsToReturn.Both,
+                uint(1), 100.0, new ExtensionObject(filter), uint(queueSize), true);
+    }
+
+    @Benchmark
+    public List<UaStructure> setValueAndDrain() {
+        DateTime now = DateTime.now();
+
+        for (int i = 0; i < queueSize; i++) {
+            item.setValue(new DataValue(new Variant(value++), StatusCode.GOOD, now, now));
+        }
+
+        notifications.clear();
+        item.getNotifications(notifications, Integer.MAX_VALUE);
+
+        return notifications;
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.subscriptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Matching Publish requests with wait-listed Subscriptions in a {@link PublishQueue}.
+ * <p>
+ * Each operation matches one request with each of {@code subscriptionCount} Subscriptions, spread over
+ * {@code priorityCount} priorities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PublishQueueBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int subscriptionCount;
+
+    @Param({"1", "8"})
+    private int priorityCount;
+
+    private final List<Subscription> subscriptions = Lists.newArrayList();
+
+    private PublishQueue publishQueue;
+    private ServiceRequest<PublishRequest, PublishResponse> service;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        SubscriptionManager subscriptionManager = new SubscriptionManager(null, null, Runnable::run);
+
+        publishQueue = subscriptionManager.getPublishQueue();
+        service = PublishRequests.publishRequest(1L);
+
+        for (int i = 0; i < subscriptionCount; i++) {
+            subscriptions.add(new ConsumingSubscription(
+                    subscriptionManager, i + 1, i % priorityCount, blackhole));
+        }
+    }
+
+    /**
+     * Every Subscription is already waiting when each request arrives.
+     */
+    @Benchmark
+    public void subscriptionsWaiting() {
+        subscriptions.forEach(publishQueue::addSubscription);
+
+        for (int i = 0; i < subscriptionCount; i++) {
+            publishQueue.addRequest(service);
+        }
+    }
+
+    /**
+     * Every request is already queued when each Subscription arrives.
+     */
+    @Benchmark
+    public void requestsQueued() {
+        for (int i = 0; i < subscriptionCount; i++) {
+            publishQueue.addRequest(service);
+        }
+
+        subscriptions.forEach(publishQueue::addSubscription);
+    }
+
+    /**
+     * A {@link Subscription} that hands every request it's given to a {@link Blackhole}.
+     */
+    private static class ConsumingSubscription extends Subscription {
+
+        private final Blackhole blackhole;
+
+        private ConsumingSubscription(SubscriptionManager subscriptionManager,
+                                      long subscriptionId,
+                                      int priority,
+                                      Blackhole blackhole) {
+
+            super(subscriptionManager, uint(subscriptionId), 1000.0, 10, 30, 0, true, priority);
+
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        void onPublish(ServiceRequest<PublishRequest, PublishResponse> service) {
+            blackhole.consume(service);
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.subscriptions;
+
+import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * In-memory Publish {@link ServiceRequest}s that aren't attached to a server or secure channel; the response is only
+ * ever available through {@link ServiceRequest#getFuture()}.
+ */
+final class PublishRequests {
+
+    private PublishRequests() {}
+
+    static ServiceRequest<PublishRequest, PublishResponse> publishRequest(long requestHandle,
+                                                                          SubscriptionAcknowledgement... acks) {
+
+        RequestHeader header = new RequestHeader(
+                NodeId.NULL_VALUE, DateTime.now(), uint(requestHandle), uint(0), null, uint(0), null);
+
+        return new ServiceRequest<>(new PublishRequest(header, acks), requestHandle, null, null);
+    }
+
+}
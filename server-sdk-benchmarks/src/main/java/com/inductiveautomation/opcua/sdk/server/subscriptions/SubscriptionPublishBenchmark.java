@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.subscriptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.sdk.core.AttributeIds;
+import com.inductiveautomation.opcua.sdk.server.items.BaseMonitoredItem;
+import com.inductiveautomation.opcua.sdk.server.items.MonitoredDataItem;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import com.inductiveautomation.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * One full publishing cycle of a Subscription: every item gets a new value, a Publish request arrives through the
+ * {@link SubscriptionManager} (acknowledging the previous NotificationMessage) and the publishing timer elapses,
+ * returning a NotificationMessage with one notification per item.
+ * <p>
+ * Notifications/sec is {@code itemCount} times the reported throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SubscriptionPublishBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int itemCount;
+
+    private final List<MonitoredDataItem> items = Lists.newArrayList();
+
+    private SubscriptionManager subscriptionManager;
+    private Subscription subscription;
+
+    private long requestHandle = 0L;
+    private long sequenceNumber = 0L;
+    private double value = 0.0;
+
+    @Setup
+    public void setup() throws UaException {
+        subscriptionManager = new SubscriptionManager(null, null, Runnable::run);
+
+        subscription = new Subscription(subscriptionManager, uint(1), 1000.0, 10, 30, 0, true, 0);
+
+        subscriptionManager.addSubscription(subscription);
+
+        for (int i = 0; i < itemCount; i++) {
+            ReadValueId readValueId = new ReadValueId(
+                    new NodeId(2, i), uint(AttributeIds.Value), null, QualifiedName.NULL_VALUE);
+
+            items.add(new MonitoredDataItem(
+                    uint(i + 1), readValueId, MonitoringMode.Reporting, TimestampsToReturn.Both,
+                    uint(i), 1000.0, null, uint(1), true));
+        }
+
+        subscription.addMonitoredItems(Lists.<BaseMonitoredItem<?>>newArrayList(items));
+    }
+
+    @Benchmark
+    public PublishResponse publish() {
+        DateTime now = DateTime.now();
+        DataValue dataValue = new DataValue(new Variant(value++), StatusCode.GOOD, now, now);
+
+        for (MonitoredDataItem item : items) {
+            item.setValue(dataValue);
+        }
+
+        SubscriptionAcknowledgement[] acks = sequenceNumber > 0 ?
+                new SubscriptionAcknowledgement[]{
+                        new SubscriptionAcknowledgement(subscription.getId(), uint(sequenceNumber))} :
+                new SubscriptionAcknowledgement[0];
+
+        ServiceRequest<PublishRequest, PublishResponse> service =
+                PublishRequests.publishRequest(++requestHandle, acks);
+
+        subscriptionManager.publish(service);
+        subscription.onPublishingTimer();
+
+        PublishResponse response = service.getFuture().getNow(null);
+
+        if (response != null) {
+            sequenceNumber = response.getNotificationMessage().getSequenceNumber().longValue();
+        }
+
+        return response;
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import java.util.concurrent.TimeUnit;
+
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.DeadbandType;
+import com.inductiveautomation.opcua.stack.core.types.structured.DataChangeFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * {@link DataChangeMonitoringFilter#filter(DataValue, DataValue)} for scalar and array values that change by less than,
+ * and more than, the deadband.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DataChangeMonitoringFilterBenchmark {
+
+    @Param({"StatusValue", "StatusValueTimestamp"})
+    private String trigger;
+
+    @Param({"None", "Absolute"})
+    private String deadband;
+
+    private DataChangeMonitoringFilter filter;
+
+    private DataValue last;
+    private DataValue withinDeadband;
+    private DataValue exceedsDeadband;
+    private DataValue lastArray;
+    private DataValue currentArray;
+
+    @Setup
+    public void setup() {
+        filter = DataChangeMonitoringFilter.compile(new DataChangeFilter(
+                DataChangeTrigger.valueOf(trigger),
+                uint(DeadbandType.valueOf(deadband).getValue()),
+                1.0
+        ));
+
+        DateTime now = DateTime.now();
+
+        last = new DataValue(new Variant(10.0), StatusCode.GOOD, now, now);
+        withinDeadband = new DataValue(new Variant(10.5), StatusCode.GOOD, now, now);
+        exceedsDeadband = new DataValue(new Variant(12.0), StatusCode.GOOD, now, now);
+
+        Double[] values = new Double[64];
+        Double[] changed = new Double[64];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (double) i;
+            changed[i] = (i == values.length - 1) ? i + 2.0 : i;
+        }
+
+        lastArray = new DataValue(new Variant(values), StatusCode.GOOD, now, now);
+        currentArray = new DataValue(new Variant(changed), StatusCode.GOOD, now, now);
+    }
+
+    @Benchmark
+    public boolean scalarWithinDeadband() {
+        return filter.filter(last, withinDeadband);
+    }
+
+    @Benchmark
+    public boolean scalarExceedsDeadband() {
+        return filter.filter(last, exceedsDeadband);
+    }
+
+    @Benchmark
+    public boolean array() {
+        return filter.filter(lastArray, currentArray);
+    }
+
+}
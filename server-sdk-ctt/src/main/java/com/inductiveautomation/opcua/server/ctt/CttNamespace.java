@@ -17,6 +17,7 @@
 package com.inductiveautomation.opcua.server.ctt;
 
 import java.lang.reflect.Array;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -111,7 +112,7 @@ public class CttNamespace implements UaNamespace {
             logger.error("Error adding reference to Connections folder.", e);
         }
 
-        subscriptionModel = new SubscriptionModel(this, server.getExecutorService(), server.getScheduledExecutorService());
+        subscriptionModel = new SubscriptionModel(server, this);
 
         addStaticScalarNodes();
         addStaticArrayNodes();
@@ -425,6 +426,11 @@ public class CttNamespace implements UaNamespace {
         return Optional.ofNullable(nodes.remove(nodeId));
     }
 
+    @Override
+    public void onReferencesChanged(UaNode node, Collection<Reference> references) {
+        server.getNamespaceManager().referencesChanged(references);
+    }
+
     @Override
     public void read(List<ReadValueId> readValueIds,
                      Double maxAge,
@@ -16,9 +16,6 @@
 
 package com.inductiveautomation.opcua.sdk.core;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 import com.inductiveautomation.opcua.sdk.server.NamespaceManager;
@@ -73,18 +70,7 @@ public class Reference {
     }
 
     public boolean subtypeOf(NodeId superTypeId, NamespaceManager namespaceManager) {
-        return checkType(superTypeId, new ExpandedNodeId(getReferenceTypeId()), namespaceManager);
-    }
-
-    private boolean checkType(NodeId superTypeId, ExpandedNodeId typeId, NamespaceManager ns) {
-        List<Reference> references = ns.getReferences(typeId).orElse(Collections.emptyList());
-
-        Optional<ExpandedNodeId> parentTypeId = references.stream()
-                .filter(r -> r.isInverse() && r.getReferenceTypeId().equals(Identifiers.HasSubtype))
-                .findFirst()
-                .map(r -> r.targetNodeId);
-
-        return parentTypeId.map(id -> superTypeId.expanded().equals(id) || checkType(superTypeId, id, ns)).orElse(false);
+        return namespaceManager.getTypeHierarchy().isSubtype(referenceTypeId, superTypeId);
     }
 
     @Override
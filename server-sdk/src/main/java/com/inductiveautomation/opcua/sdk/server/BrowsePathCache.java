@@ -0,0 +1,229 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.sdk.server.api.Namespace;
+import com.inductiveautomation.opcua.sdk.server.util.BrowseHeader;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowsePath;
+import com.inductiveautomation.opcua.stack.core.types.structured.BrowsePathResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.RelativePathElement;
+
+/**
+ * Caches for TranslateBrowsePathsToNodeIds: the references of each node indexed by the BrowseName of their targets,
+ * and the results of recently translated browse paths.
+ * <p>
+ * Both are least-recently-used caches. Entries are tagged with the version of the address space they were computed
+ * from and ignored once {@link #invalidate()} has been called. Only namespaces that call it whenever nodes,
+ * references or BrowseNames change ({@link Namespace#isBrowsePathCacheable()}) are cached: a node's references are
+ * cached only if it and all of their targets belong to such namespaces, and a path's result only if every node it
+ * passed through was cached.
+ */
+public class BrowsePathCache {
+
+    private static final int MAX_CACHED_NODES = 16384;
+    private static final int MAX_CACHED_PATHS = 16384;
+
+    private final AtomicLong version = new AtomicLong(0L);
+
+    private final Cache<NodeId, Versioned<NodeIndex>> nodes =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_NODES).build();
+
+    private final Cache<List<Object>, Versioned<BrowsePathResult>> paths =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATHS).build();
+
+    private final NamespaceManager namespaceManager;
+
+    public BrowsePathCache(NamespaceManager namespaceManager) {
+        this.namespaceManager = namespaceManager;
+    }
+
+    /**
+     * Discard everything cached; call after nodes, references or BrowseNames have been added, removed or changed.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * @param browsePath the {@link BrowsePath} to translate.
+     * @param translator translates {@code browsePath} if there's no cached result for it, getting references through
+     *                   the {@link Lookup} it's given.
+     * @return the cached result for {@code browsePath}, or the result of {@code translator}.
+     */
+    public BrowsePathResult translate(BrowsePath browsePath,
+                                      BiFunction<BrowsePath, Lookup, BrowsePathResult> translator) {
+
+        List<Object> key = key(browsePath);
+        long version = this.version.get();
+
+        Versioned<BrowsePathResult> cached = paths.getIfPresent(key);
+
+        if (cached != null && cached.version == version) {
+            return cached.value;
+        }
+
+        Lookup lookup = new Lookup(version);
+        BrowsePathResult result = translator.apply(browsePath, lookup);
+
+        if (lookup.cacheable) {
+            paths.put(key, new Versioned<>(version, result));
+        }
+
+        return result;
+    }
+
+    private Optional<NodeIndex> index(NodeId nodeId, long version) {
+        Versioned<NodeIndex> cached = nodes.getIfPresent(nodeId);
+
+        if (cached != null && cached.version == version) {
+            return Optional.of(cached.value);
+        }
+
+        Optional<NodeIndex> index = namespaceManager.getReferences(nodeId)
+                .map(references -> index(nodeId, references));
+
+        index.filter(i -> i.cacheable).ifPresent(i -> nodes.put(nodeId, new Versioned<>(version, i)));
+
+        return index;
+    }
+
+    private NodeIndex index(NodeId nodeId, List<Reference> references) {
+        List<Reference> named = Lists.newArrayListWithCapacity(references.size());
+        Map<QualifiedName, List<Reference>> byName = Maps.newHashMap();
+        boolean cacheable = isCacheable(nodeId);
+
+        for (Reference reference : references) {
+            Optional<NodeId> targetNodeId = namespaceManager.toNodeId(reference.getTargetNodeId());
+            Optional<QualifiedName> browseName = targetNodeId.flatMap(namespaceManager::getBrowseHeader)
+                    .map(BrowseHeader::getBrowseName);
+
+            cacheable &= targetNodeId.map(this::isCacheable).orElse(false);
+
+            if (browseName.isPresent()) {
+                named.add(reference);
+                byName.computeIfAbsent(browseName.get(), n -> Lists.newArrayList()).add(reference);
+            }
+        }
+
+        ImmutableMap.Builder<QualifiedName, List<Reference>> builder = ImmutableMap.builder();
+        byName.forEach((name, rs) -> builder.put(name, ImmutableList.copyOf(rs)));
+
+        return new NodeIndex(ImmutableList.copyOf(named), builder.build(), cacheable);
+    }
+
+    private boolean isCacheable(NodeId nodeId) {
+        return namespaceManager.getNamespace(nodeId.getNamespaceIndex()).isBrowsePathCacheable();
+    }
+
+    private static List<Object> key(BrowsePath browsePath) {
+        RelativePathElement[] elements = browsePath.getRelativePath().getElements();
+        Object[] key = new Object[1 + elements.length * 4];
+
+        key[0] = browsePath.getStartingNode();
+
+        for (int i = 0; i < elements.length; i++) {
+            RelativePathElement e = elements[i];
+
+            key[1 + i * 4] = e.getReferenceTypeId();
+            key[2 + i * 4] = e.getIsInverse();
+            key[3 + i * 4] = e.getIncludeSubtypes();
+            key[4 + i * 4] = e.getTargetName();
+        }
+
+        return Lists.newArrayList(key);
+    }
+
+    /**
+     * Gets references for a single translation, and keeps track of whether its result may be cached.
+     */
+    public final class Lookup {
+
+        private final long version;
+        private boolean cacheable = true;
+
+        private Lookup(long version) {
+            this.version = version;
+        }
+
+        /**
+         * @param nodeId     the source node.
+         * @param targetName the BrowseName to match; {@code null} or {@link QualifiedName#NULL_VALUE} matches any.
+         * @return the references of the node whose target has a BrowseName of {@code targetName}, or
+         * {@link Optional#EMPTY} if the node doesn't exist. References whose target can't be resolved are excluded.
+         */
+        public Optional<List<Reference>> getReferences(NodeId nodeId, QualifiedName targetName) {
+            Optional<NodeIndex> index = index(nodeId, version);
+
+            cacheable &= index.map(i -> i.cacheable).orElse(isCacheable(nodeId));
+
+            return index.map(i -> {
+                if (targetName == null || targetName.equals(QualifiedName.NULL_VALUE)) {
+                    return i.named;
+                } else {
+                    return i.byName.getOrDefault(targetName, ImmutableList.of());
+                }
+            });
+        }
+
+    }
+
+    private static final class NodeIndex {
+
+        private final List<Reference> named;
+        private final Map<QualifiedName, List<Reference>> byName;
+
+        /**
+         * {@code true} if the node and all of its references' targets belong to namespaces that invalidate the cache.
+         */
+        private final boolean cacheable;
+
+        private NodeIndex(List<Reference> named, Map<QualifiedName, List<Reference>> byName, boolean cacheable) {
+            this.named = named;
+            this.byName = byName;
+            this.cacheable = cacheable;
+        }
+
+    }
+
+    private static final class Versioned<T> {
+
+        private final long version;
+        private final T value;
+
+        private Versioned(long version, T value) {
+            this.version = version;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -16,17 +16,21 @@
 
 package com.inductiveautomation.opcua.sdk.server;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import com.google.common.collect.Maps;
 import com.inductiveautomation.opcua.sdk.core.NamespaceTable;
 import com.inductiveautomation.opcua.sdk.core.Reference;
 import com.inductiveautomation.opcua.sdk.server.api.Namespace;
+import com.inductiveautomation.opcua.sdk.server.util.BrowseHeader;
 import com.inductiveautomation.opcua.sdk.server.util.NoOpNamespace;
+import com.inductiveautomation.opcua.stack.core.Identifiers;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaRuntimeException;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
@@ -46,6 +50,21 @@ public class NamespaceManager {
 
     private final Map<UShort, Namespace> namespaces = Maps.newConcurrentMap();
 
+    private final TypeHierarchy typeHierarchy = new TypeHierarchy(this);
+
+    private final BrowsePathCache browsePathCache = new BrowsePathCache(this);
+
+    /**
+     * Incremented whenever a HasSubtype reference is added to or removed from a node in this server.
+     */
+    private final AtomicLong subtypeVersion = new AtomicLong();
+
+    /**
+     * Incremented whenever a HasNotifier or HasEventSource reference is added to or removed from a node in this
+     * server.
+     */
+    private final AtomicLong notifierVersion = new AtomicLong();
+
     public NamespaceManager() {
         namespaceTable.putUri(NamespaceTable.OpcUaNamespace, ushort(0));
     }
@@ -72,6 +91,8 @@ public class NamespaceManager {
      */
     public void addNamespace(Namespace namespace) {
         namespaces.put(namespace.getNamespaceIndex(), namespace);
+        typeHierarchy.invalidate();
+        browsePathCache.invalidate();
     }
 
     /**
@@ -88,6 +109,8 @@ public class NamespaceManager {
         UShort namespaceIndex = namespaceTable.addUri(namespaceUri);
         T namespace = namespaceFunction.apply(namespaceIndex);
         namespaces.put(namespaceIndex, namespace);
+        typeHierarchy.invalidate();
+        browsePathCache.invalidate();
 
         return namespace;
     }
@@ -136,6 +159,20 @@ public class NamespaceManager {
         return attributeExists(nodeId, attributeId.intValue());
     }
 
+    public Optional<BrowseHeader> getBrowseHeader(NodeId nodeId) {
+        Namespace namespace = namespaces.get(nodeId.getNamespaceIndex());
+
+        if (namespace == null) {
+            return Optional.empty();
+        } else {
+            return namespace.getBrowseHeader(nodeId);
+        }
+    }
+
+    public Optional<BrowseHeader> getBrowseHeader(ExpandedNodeId nodeId) {
+        return nodeId.local().flatMap(this::getBrowseHeader);
+    }
+
     public Optional<List<Reference>> getReferences(NodeId nodeId) {
         Namespace namespace = namespaces.get(nodeId.getNamespaceIndex());
 
@@ -150,6 +187,61 @@ public class NamespaceManager {
         return nodeId.local().flatMap(this::getReferences);
     }
 
+    /**
+     * @return the {@link TypeHierarchy} of the types in all namespaces.
+     */
+    public TypeHierarchy getTypeHierarchy() {
+        return typeHierarchy;
+    }
+
+    /**
+     * @return the {@link BrowsePathCache} used to translate browse paths.
+     */
+    public BrowsePathCache getBrowsePathCache() {
+        return browsePathCache;
+    }
+
+    /**
+     * Called when {@code references} have been added to or removed from a node in one of this server's namespaces.
+     * Each version is bumped at most once, however many of the references affect it.
+     *
+     * @param references the references that were added or removed.
+     */
+    public void referencesChanged(Collection<Reference> references) {
+        boolean subtypes = false;
+        boolean notifiers = false;
+
+        for (Reference reference : references) {
+            NodeId referenceTypeId = reference.getReferenceTypeId();
+
+            if (Identifiers.HasSubtype.equals(referenceTypeId)) {
+                subtypes = true;
+            } else if (Identifiers.HasNotifier.equals(referenceTypeId) ||
+                    Identifiers.HasEventSource.equals(referenceTypeId)) {
+                notifiers = true;
+            }
+        }
+
+        if (subtypes) subtypeVersion.incrementAndGet();
+        if (notifiers) notifierVersion.incrementAndGet();
+    }
+
+    /**
+     * @return a number that changes whenever a HasSubtype reference is added to or removed from a node in this
+     * server. Caches derived from the type hierarchy compare it to detect that they're stale.
+     */
+    public long getSubtypeVersion() {
+        return subtypeVersion.get();
+    }
+
+    /**
+     * @return a number that changes whenever a HasNotifier or HasEventSource reference is added to or removed from a
+     * node in this server. Caches derived from the event notifier hierarchy compare it to detect that they're stale.
+     */
+    public long getNotifierVersion() {
+        return notifierVersion.get();
+    }
+
     public NamespaceTable getNamespaceTable() {
         return namespaceTable;
     }
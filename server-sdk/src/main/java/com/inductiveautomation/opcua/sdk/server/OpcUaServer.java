@@ -28,12 +28,15 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.Maps;
 import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.inductiveautomation.opcua.sdk.core.ServerTable;
 import com.inductiveautomation.opcua.sdk.server.api.OpcUaServerConfig;
+import com.inductiveautomation.opcua.sdk.server.api.PublishingScheduler;
+import com.inductiveautomation.opcua.sdk.server.events.EventRouter;
 import com.inductiveautomation.opcua.sdk.server.namespaces.OpcUaNamespace;
 import com.inductiveautomation.opcua.sdk.server.subscriptions.Subscription;
 import com.inductiveautomation.opcua.stack.core.application.UaServer;
@@ -74,9 +77,12 @@ public class OpcUaServer {
     private final NamespaceManager namespaceManager = new NamespaceManager();
     private final SessionManager sessionManager = new SessionManager(this);
     private final ServerTable serverTable = new ServerTable();
+    private final MetricRegistry metricRegistry = new MetricRegistry();
 
     private final UaServer server;
     private final EventBus eventBus;
+    private final EventRouter eventRouter;
+    private final PublishingScheduler publishingScheduler;
 
     private final OpcUaNamespace uaNamespace;
     private final OpcUaServerConfig config;
@@ -84,6 +90,8 @@ public class OpcUaServer {
     public OpcUaServer(OpcUaServerConfig config) {
         this.config = config;
 
+        publishingScheduler = config.getPublishingScheduler();
+
         server = buildServer();
 
         server.addServiceSet((AttributeServiceSet) sessionManager);
@@ -120,7 +128,10 @@ public class OpcUaServer {
             }
         }
 
+        eventRouter = new EventRouter(namespaceManager, server.getExecutorService());
+
         eventBus = new AsyncEventBus("server", server.getExecutorService());
+        eventBus.register(eventRouter);
     }
 
     public void startup() {
@@ -193,6 +204,23 @@ public class OpcUaServer {
         return eventBus;
     }
 
+    /**
+     * Events posted to the {@link EventBus} are routed through the {@link EventRouter} too; posting to the router
+     * directly skips the bus's reflective dispatch.
+     *
+     * @return the {@link EventRouter} events are delivered to monitored items through.
+     */
+    public EventRouter getEventRouter() {
+        return eventRouter;
+    }
+
+    /**
+     * @return the {@link MetricRegistry} this server's metrics are registered in.
+     */
+    public MetricRegistry getMetricRegistry() {
+        return metricRegistry;
+    }
+
     public Map<UInteger, Subscription> getSubscriptions() {
         return subscriptions;
     }
@@ -213,6 +241,10 @@ public class OpcUaServer {
         return SHARED_SCHEDULED_EXECUTOR;
     }
 
+    public PublishingScheduler getPublishingScheduler() {
+        return publishingScheduler;
+    }
+
     public ChannelConfig getChannelConfig() {
         return server.getChannelConfig();
     }
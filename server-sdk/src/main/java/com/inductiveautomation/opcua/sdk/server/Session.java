@@ -154,6 +154,7 @@ public class Session implements SessionServiceSet {
             logger.debug("Session id={} timed out.", sessionId);
 
             subscriptionManager.sessionClosed(true);
+            viewServices.sessionClosed();
 
             listeners.forEach(listener -> listener.onSessionClosed(this, true));
         } else {
@@ -222,6 +223,7 @@ public class Session implements SessionServiceSet {
         boolean deleteSubscriptions = serviceRequest.getRequest().getDeleteSubscriptions();
 
         subscriptionManager.sessionClosed(deleteSubscriptions);
+        viewServices.sessionClosed();
 
         listeners.forEach(listener -> listener.onSessionClosed(this, deleteSubscriptions));
 
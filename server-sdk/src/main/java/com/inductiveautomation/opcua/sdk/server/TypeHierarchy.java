@@ -0,0 +1,255 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.sdk.server.model.UaNode;
+import com.inductiveautomation.opcua.stack.core.Identifiers;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+
+/**
+ * The HasSubtype hierarchies of the ReferenceTypes, ObjectTypes, VariableTypes and DataTypes, precomputed so that
+ * subtype checks don't walk references.
+ * <p>
+ * Each hierarchy is numbered in pre-order, so every type is assigned an interval {@code [pre, post]} that contains
+ * exactly the numbers of its subtypes; checking whether one type is a subtype of another is two map lookups and
+ * two comparisons. Types are assumed to have a single supertype, as Part 3 requires.
+ * <p>
+ * The hierarchy is built lazily and rebuilt after {@link #invalidate()} or once a HasSubtype reference has been added
+ * to or removed from any {@link UaNode} in this server (see {@link NamespaceManager#getSubtypeVersion()}). Types that
+ * aren't in it yet (e.g. in a namespace that isn't made of {@link UaNode}s) are handled by walking up their supertypes
+ * until a type that is in it is reached.
+ */
+public class TypeHierarchy {
+
+    private static final List<NodeId> ROOTS = ImmutableList.of(
+            Identifiers.References,
+            Identifiers.BaseObjectType,
+            Identifiers.BaseVariableType,
+            Identifiers.BaseDataType
+    );
+
+    /**
+     * Bounds the walk up from an unknown type, in case of a HasSubtype cycle.
+     */
+    private static final int MAX_DEPTH = 64;
+
+    private volatile Snapshot snapshot;
+
+    private final NamespaceManager namespaceManager;
+
+    public TypeHierarchy(NamespaceManager namespaceManager) {
+        this.namespaceManager = namespaceManager;
+    }
+
+    /**
+     * Discard the precomputed hierarchy; call after HasSubtype references have been added or removed.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * @param typeId      the type to check.
+     * @param superTypeId the potential supertype.
+     * @return {@code true} if {@code typeId} is a subtype of {@code superTypeId}, directly or indirectly. A type
+     * isn't a subtype of itself.
+     */
+    public boolean isSubtype(NodeId typeId, NodeId superTypeId) {
+        Snapshot snapshot = snapshot();
+        Interval superType = snapshot.intervals.get(superTypeId);
+
+        Interval type = snapshot.intervals.get(typeId);
+
+        if (type != null) {
+            return superType != null && superType.pre < type.pre && type.pre <= superType.post;
+        }
+
+        // Not in the hierarchy; walk up until we reach the supertype or a type that is.
+        NodeId id = typeId;
+
+        for (int depth = 0; depth < MAX_DEPTH; depth++) {
+            Optional<NodeId> parent = getSuperType(id);
+
+            if (!parent.isPresent()) return false;
+
+            id = parent.get();
+
+            if (id.equals(superTypeId)) return true;
+
+            Interval interval = snapshot.intervals.get(id);
+
+            if (interval != null) {
+                return superType != null && superType.pre <= interval.pre && interval.pre <= superType.post;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @param typeId the type to get the subtypes of.
+     * @return {@code typeId} and all of its subtypes, direct or indirect.
+     */
+    public Set<NodeId> getSubtypes(NodeId typeId) {
+        Snapshot snapshot = snapshot();
+        Interval interval = snapshot.intervals.get(typeId);
+
+        if (interval != null) {
+            return ImmutableSet.copyOf(snapshot.preorder.subList(interval.pre, interval.post + 1));
+        }
+
+        Set<NodeId> subtypes = Sets.newLinkedHashSet();
+        Deque<NodeId> pending = new ArrayDeque<>();
+        pending.add(typeId);
+
+        while (!pending.isEmpty()) {
+            NodeId id = pending.poll();
+
+            if (subtypes.add(id)) {
+                pending.addAll(getDirectSubtypes(id));
+            }
+        }
+
+        return ImmutableSet.copyOf(subtypes);
+    }
+
+    /**
+     * @param typeId the type to get the supertype of.
+     * @return the direct supertype of {@code typeId}, if it has one.
+     */
+    public Optional<NodeId> getSupertype(NodeId typeId) {
+        Interval interval = snapshot().intervals.get(typeId);
+
+        return interval != null ? Optional.ofNullable(interval.supertype) : getSuperType(typeId);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = this.snapshot;
+        long version = namespaceManager.getSubtypeVersion();
+
+        if (snapshot == null || snapshot.version != version) {
+            synchronized (this) {
+                snapshot = this.snapshot;
+
+                if (snapshot == null || snapshot.version != version) {
+                    this.snapshot = snapshot = build(version);
+                }
+            }
+        }
+
+        return snapshot;
+    }
+
+    private Snapshot build(long version) {
+        List<NodeId> preorder = Lists.newArrayList();
+        Map<NodeId, Interval> intervals = Maps.newHashMap();
+
+        for (NodeId root : ROOTS) {
+            number(root, null, preorder, intervals);
+        }
+
+        return new Snapshot(version, ImmutableList.copyOf(preorder), intervals);
+    }
+
+    private void number(NodeId typeId, NodeId supertypeId, List<NodeId> preorder, Map<NodeId, Interval> intervals) {
+        if (intervals.containsKey(typeId)) return;
+
+        Interval interval = new Interval(preorder.size(), supertypeId);
+        intervals.put(typeId, interval);
+        preorder.add(typeId);
+
+        for (NodeId subtypeId : getDirectSubtypes(typeId)) {
+            number(subtypeId, typeId, preorder, intervals);
+        }
+
+        interval.post = preorder.size() - 1;
+    }
+
+    private List<NodeId> getDirectSubtypes(NodeId typeId) {
+        List<Reference> references = namespaceManager.getReferences(typeId).orElse(Collections.emptyList());
+        List<NodeId> subtypes = Lists.newArrayList();
+
+        for (Reference reference : references) {
+            if (reference.isForward() && Identifiers.HasSubtype.equals(reference.getReferenceTypeId())) {
+                namespaceManager.toNodeId(reference.getTargetNodeId()).ifPresent(subtypes::add);
+            }
+        }
+
+        return subtypes;
+    }
+
+    private Optional<NodeId> getSuperType(NodeId typeId) {
+        List<Reference> references = namespaceManager.getReferences(typeId).orElse(Collections.emptyList());
+
+        for (Reference reference : references) {
+            if (reference.isInverse() && Identifiers.HasSubtype.equals(reference.getReferenceTypeId())) {
+                return namespaceManager.toNodeId(reference.getTargetNodeId());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static final class Snapshot {
+
+        /**
+         * The {@link NamespaceManager#getSubtypeVersion()} read before the snapshot was built.
+         */
+        private final long version;
+        private final List<NodeId> preorder;
+        private final Map<NodeId, Interval> intervals;
+
+        private Snapshot(long version, List<NodeId> preorder, Map<NodeId, Interval> intervals) {
+            this.version = version;
+            this.preorder = preorder;
+            this.intervals = intervals;
+        }
+
+    }
+
+    /**
+     * A type's pre-order number, the highest pre-order number among its subtypes, and its supertype.
+     */
+    private static final class Interval {
+
+        private final int pre;
+        private final NodeId supertype;
+        private int post;
+
+        private Interval(int pre, NodeId supertype) {
+            this.pre = pre;
+            this.supertype = supertype;
+            this.post = pre;
+        }
+
+    }
+
+}
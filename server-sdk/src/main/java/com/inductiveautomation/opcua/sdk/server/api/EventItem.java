@@ -16,12 +16,24 @@
 
 package com.inductiveautomation.opcua.sdk.server.api;
 
+import java.util.Optional;
+import java.util.Set;
+
 import com.google.common.eventbus.Subscribe;
 import com.inductiveautomation.opcua.sdk.core.events.BaseEventType;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
 
 public interface EventItem extends MonitoredItem {
 
     @Subscribe
     void setEvent(BaseEventType event);
 
+    /**
+     * @return types such that every event this item can match is of one of them or one of their subtypes, or empty if
+     * it could match an event of any type.
+     */
+    default Optional<Set<NodeId>> getEventTypes() {
+        return Optional.empty();
+    }
+
 }
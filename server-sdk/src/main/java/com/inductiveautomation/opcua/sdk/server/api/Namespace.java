@@ -19,7 +19,14 @@ package com.inductiveautomation.opcua.sdk.server.api;
 import java.util.List;
 import java.util.Optional;
 
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.sdk.core.AttributeIds;
 import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.sdk.server.BrowsePathCache;
+import com.inductiveautomation.opcua.sdk.server.model.UaNode;
+import com.inductiveautomation.opcua.sdk.server.util.BrowseHeader;
+import com.inductiveautomation.opcua.stack.core.Identifiers;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
 
@@ -53,6 +60,63 @@ public interface Namespace extends ReadWriteManager, MethodManager, MonitoredIte
      */
     Optional<List<Reference>> getReferences(NodeId nodeId);
 
+    /**
+     * Get the {@link Reference}s for each of the requested nodes; the bulk form of {@link #getReferences(NodeId)} used
+     * by the Browse service.
+     * <p>
+     * Implementations able to resolve many nodes more cheaply at once than one at a time should override this.
+     *
+     * @param nodeIds The {@link NodeId}s of the nodes to get the {@link Reference}s of.
+     * @return the {@link Reference}s of each requested node, in order, or {@link Optional#EMPTY} for nodes that don't
+     * exist.
+     */
+    default List<Optional<List<Reference>>> getReferences(List<NodeId> nodeIds) {
+        List<Optional<List<Reference>>> references = Lists.newArrayListWithCapacity(nodeIds.size());
+
+        for (NodeId nodeId : nodeIds) {
+            references.add(getReferences(nodeId));
+        }
+
+        return references;
+    }
+
+    /**
+     * Get the {@link BrowseHeader} of the requested node, or {@link Optional#EMPTY} if the node does not exist.
+     * <p>
+     * The default implementation reads each attribute and scans the node's references, building a new header on every
+     * call; implementations that keep these at hand should override this. {@link UaNamespace} does, returning the
+     * header each {@link UaNode} caches.
+     *
+     * @param nodeId The {@link NodeId} of the node.
+     * @return the {@link BrowseHeader} of the requested node.
+     */
+    default Optional<BrowseHeader> getBrowseHeader(NodeId nodeId) {
+        if (!containsNodeId(nodeId)) return Optional.empty();
+
+        ExpandedNodeId typeDefinition = getReferences(nodeId).flatMap(references -> references.stream()
+                .filter(r -> r.isForward() && Identifiers.HasTypeDefinition.equals(r.getReferenceTypeId()))
+                .map(Reference::getTargetNodeId)
+                .findFirst())
+                .orElse(ExpandedNodeId.NULL_VALUE);
+
+        return Optional.of(new BrowseHeader(
+                getAttribute(nodeId, AttributeIds.BrowseName),
+                getAttribute(nodeId, AttributeIds.DisplayName),
+                getAttribute(nodeId, AttributeIds.NodeClass),
+                typeDefinition));
+    }
+
+    /**
+     * Return {@code true} if this namespace calls {@link BrowsePathCache#invalidate()} whenever its nodes, their
+     * references or their BrowseNames change. Translated browse paths are only cached when every node they pass
+     * through, and every target they match, belongs to a namespace that does.
+     *
+     * @return {@code true} if this namespace invalidates the {@link BrowsePathCache} itself.
+     */
+    default boolean isBrowsePathCacheable() {
+        return false;
+    }
+
     /**
      * For the Node identified by {@code nodeId} get the value of the attribute identified by {@code attributeId}
      * if it exists. Otherwise {@code null}.
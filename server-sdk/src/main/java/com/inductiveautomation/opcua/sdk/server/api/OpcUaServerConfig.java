@@ -22,8 +22,10 @@ import java.util.EnumSet;
 import java.util.List;
 
 import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.sdk.server.OpcUaServer;
 import com.inductiveautomation.opcua.sdk.server.identity.AnonymousIdentityValidator;
 import com.inductiveautomation.opcua.sdk.server.identity.IdentityValidator;
+import com.inductiveautomation.opcua.sdk.server.subscriptions.HashedWheelPublishingScheduler;
 import com.inductiveautomation.opcua.stack.core.Stack;
 import com.inductiveautomation.opcua.stack.core.application.CertificateManager;
 import com.inductiveautomation.opcua.stack.core.security.SecurityPolicy;
@@ -103,8 +105,30 @@ public interface OpcUaServerConfig {
         return new BuildInfo("", "", "", "", "", DateTime.MIN_VALUE);
     }
 
+    /**
+     * If {@code true}, the nodes of the standard address space (namespace 0) are built the first time each is
+     * accessed rather than all at once when the server is created.
+     *
+     * @return {@code true} if namespace 0 nodes should be built on demand.
+     */
+    default boolean isLazyNodeLoading() {
+        return false;
+    }
+
     default OpcUaServerConfigLimits getLimits() {
         return new OpcUaServerConfigLimits() {};
     }
 
+    /**
+     * The {@link PublishingScheduler} that drives the publishing timer of every Subscription on the server.
+     * <p>
+     * Defaults to a {@link HashedWheelPublishingScheduler} shared by all servers in the JVM. Its daemon threads aren't
+     * stopped by {@link OpcUaServer#shutdown()}; see {@link HashedWheelPublishingScheduler#getSharedInstance()}.
+     *
+     * @return the {@link PublishingScheduler} to use.
+     */
+    default PublishingScheduler getPublishingScheduler() {
+        return HashedWheelPublishingScheduler.getSharedInstance();
+    }
+
 }
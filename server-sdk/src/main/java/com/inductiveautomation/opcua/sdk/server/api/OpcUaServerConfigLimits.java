@@ -42,6 +42,13 @@ public interface OpcUaServerConfigLimits {
         return ushort(UShort.MAX_VALUE);
     }
 
+    /**
+     * @return the time, in milliseconds, after which an unused browse continuation point is released.
+     */
+    default Double getBrowseContinuationPointTimeout() {
+        return (double) TimeUnit.MILLISECONDS.convert(5, TimeUnit.MINUTES);
+    }
+
     default UShort getMaxQueryContinuationPoints() {
         return ushort(UShort.MAX_VALUE);
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.api;
+
+import java.util.concurrent.TimeUnit;
+
+public interface PublishingScheduler {
+
+    /**
+     * Schedule {@code task} to run repeatedly, once every {@code interval}, until the returned
+     * {@link PublishingTimer} is cancelled.
+     * <p>
+     * The first execution happens one interval from now. An execution that is still running when the next one comes
+     * due causes the next one to be skipped rather than run concurrently.
+     *
+     * @param task     the task to run each time the timer elapses.
+     * @param interval the interval between executions.
+     * @param unit     the {@link TimeUnit} of {@code interval}.
+     * @return a {@link PublishingTimer} that can be used to modify or cancel the timer.
+     */
+    PublishingTimer schedule(Runnable task, long interval, TimeUnit unit);
+
+    public static interface PublishingTimer {
+
+        /**
+         * Change the interval of this timer. Takes effect after the next execution.
+         *
+         * @param interval the new interval between executions.
+         * @param unit     the {@link TimeUnit} of {@code interval}.
+         */
+        void setInterval(long interval, TimeUnit unit);
+
+        /**
+         * Cancel this timer. No further executions of the task will be started.
+         */
+        void cancel();
+
+    }
+
+}
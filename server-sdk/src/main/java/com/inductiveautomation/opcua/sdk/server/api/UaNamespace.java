@@ -16,9 +16,13 @@
 
 package com.inductiveautomation.opcua.sdk.server.api;
 
+import java.util.Collection;
 import java.util.Optional;
 
+import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.sdk.server.NamespaceManager;
 import com.inductiveautomation.opcua.sdk.server.model.UaNode;
+import com.inductiveautomation.opcua.sdk.server.util.BrowseHeader;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
 
@@ -32,4 +36,38 @@ public interface UaNamespace extends Namespace {
 
     Optional<UaNode> removeNode(NodeId nodeId);
 
+    /**
+     * Get the {@link BrowseHeader} of the requested node, or {@link Optional#EMPTY} if the node does not exist.
+     * <p>
+     * The default implementation returns the header cached by the {@link UaNode}.
+     *
+     * @param nodeId The {@link NodeId} of the node.
+     * @return the {@link BrowseHeader} of the requested node.
+     */
+    @Override
+    default Optional<BrowseHeader> getBrowseHeader(NodeId nodeId) {
+        return getNode(nodeId).map(UaNode::getBrowseHeader);
+    }
+
+    /**
+     * Called by a {@link UaNode} belonging to this namespace when its references or BrowseName have changed.
+     *
+     * @param node the {@link UaNode} that changed.
+     */
+    default void onNodeChanged(UaNode node) {}
+
+    /**
+     * Called by a {@link UaNode} belonging to this namespace when references have been added to or removed from it.
+     * <p>
+     * Implementations should pass {@code references} on to {@link NamespaceManager#referencesChanged(Collection)}, so
+     * the server's type and notifier hierarchies notice new or removed HasSubtype, HasNotifier and HasEventSource
+     * references. The default implementation only calls {@link #onNodeChanged(UaNode)}.
+     *
+     * @param node       the {@link UaNode} that changed.
+     * @param references the references that were added or removed.
+     */
+    default void onReferencesChanged(UaNode node, Collection<Reference> references) {
+        onNodeChanged(node);
+    }
+
 }
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.events;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.eventbus.Subscribe;
+import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.sdk.core.events.BaseEventType;
+import com.inductiveautomation.opcua.sdk.server.NamespaceManager;
+import com.inductiveautomation.opcua.sdk.server.TypeHierarchy;
+import com.inductiveautomation.opcua.sdk.server.api.EventItem;
+import com.inductiveautomation.opcua.stack.core.Identifiers;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to the {@link EventItem}s that could match them.
+ * <p>
+ * Items are indexed by the notifier they monitor and, when their filter restricts them to certain event types, by
+ * those types. An event is delivered to the items monitoring its source node, any notifier its source is reachable from
+ * through HasNotifier/HasEventSource references, and the Server object; of those, only items accepting any event type
+ * or indexed under the event's type or one of its supertypes are visited. Supertypes are looked up in the
+ * {@link TypeHierarchy} as each event is delivered, so the index stays correct as types are added or removed.
+ * <p>
+ * The index is an immutable snapshot replaced whenever items are added or removed, so delivering an event takes no
+ * locks other than each item's own.
+ */
+public class EventRouter {
+
+    /**
+     * Bounds the walk up from an event's type, in case of a HasSubtype cycle.
+     */
+    private static final int MAX_DEPTH = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /**
+     * The notifiers each source node's events are reported to. Entries are stale once a HasNotifier or HasEventSource
+     * reference has been added to or removed from any node since they were computed (see
+     * {@link NamespaceManager#getNotifierVersion()}), and are recomputed on their next use.
+     */
+    private final Map<NodeId, Notifiers> notifierCache = Maps.newConcurrentMap();
+
+    /**
+     * The registered items and the event types each was registered with. Guarded by {@code this}.
+     */
+    private final Map<EventItem, Optional<Set<NodeId>>> registrations = Maps.newHashMap();
+
+    private volatile Map<NodeId, Subscribers> index = ImmutableMap.of();
+
+    private final NamespaceManager namespaceManager;
+    private final ExecutorService executor;
+
+    public EventRouter(NamespaceManager namespaceManager, ExecutorService executor) {
+        this.namespaceManager = namespaceManager;
+        this.executor = executor;
+    }
+
+    /**
+     * Asynchronously deliver {@code event} to every item that could match it.
+     *
+     * @param event the event to deliver.
+     */
+    public void post(BaseEventType event) {
+        try {
+            executor.execute(() -> deliver(event));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Event delivery rejected: {}", event, e);
+        }
+    }
+
+    /**
+     * Deliver {@code event} to every item that could match it, on the calling thread.
+     *
+     * @param event the event to deliver.
+     */
+    @Subscribe
+    public void deliver(BaseEventType event) {
+        Map<NodeId, Subscribers> index = this.index;
+
+        if (index.isEmpty()) return;
+
+        for (NodeId notifier : getNotifiers(event.getSourceNode())) {
+            Subscribers subscribers = index.get(notifier);
+
+            if (subscribers != null) {
+                subscribers.deliver(event, namespaceManager.getTypeHierarchy());
+            }
+        }
+    }
+
+    /**
+     * Add {@code items}, or re-index them if they were already added. Items with sampling disabled are removed.
+     *
+     * @param items the {@link EventItem}s to add.
+     */
+    public synchronized void register(List<? extends EventItem> items) {
+        Set<NodeId> modified = Sets.newHashSet();
+
+        for (EventItem item : items) {
+            Optional<Set<NodeId>> previous = item.isSamplingEnabled() ?
+                    registrations.put(item, item.getEventTypes()) :
+                    registrations.remove(item);
+
+            if (previous != null || item.isSamplingEnabled()) {
+                modified.add(item.getReadValueId().getNodeId());
+            }
+        }
+
+        rebuild(modified);
+    }
+
+    /**
+     * @param items the {@link EventItem}s to remove.
+     */
+    public synchronized void unregister(List<? extends EventItem> items) {
+        Set<NodeId> modified = Sets.newHashSet();
+
+        for (EventItem item : items) {
+            if (registrations.remove(item) != null) {
+                modified.add(item.getReadValueId().getNodeId());
+            }
+        }
+
+        rebuild(modified);
+    }
+
+    private void rebuild(Set<NodeId> notifiers) {
+        if (notifiers.isEmpty()) return;
+
+        Map<NodeId, Subscribers> index = Maps.newHashMap(this.index);
+
+        for (NodeId notifier : notifiers) {
+            index.remove(notifier);
+        }
+
+        Map<NodeId, Subscribers.Builder> builders = Maps.newHashMap();
+
+        registrations.forEach((item, eventTypes) -> {
+            NodeId notifier = item.getReadValueId().getNodeId();
+
+            if (notifiers.contains(notifier)) {
+                builders.computeIfAbsent(notifier, n -> new Subscribers.Builder()).add(item, eventTypes);
+            }
+        });
+
+        builders.forEach((notifier, builder) -> index.put(notifier, builder.build()));
+
+        this.index = ImmutableMap.copyOf(index);
+    }
+
+    private Set<NodeId> getNotifiers(NodeId sourceNode) {
+        if (sourceNode == null || sourceNode.isNull()) {
+            return ImmutableSet.of(Identifiers.Server);
+        }
+
+        long version = namespaceManager.getNotifierVersion();
+        Notifiers notifiers = notifierCache.get(sourceNode);
+
+        if (notifiers == null || notifiers.version != version) {
+            notifiers = new Notifiers(version, findNotifiers(sourceNode));
+            notifierCache.put(sourceNode, notifiers);
+        }
+
+        return notifiers.notifiers;
+    }
+
+    /**
+     * @return {@code sourceNode}, every node it's reachable from through HasNotifier/HasEventSource references, and the
+     * Server object.
+     */
+    private Set<NodeId> findNotifiers(NodeId sourceNode) {
+        Set<NodeId> notifiers = Sets.newHashSet();
+        Deque<NodeId> pending = new ArrayDeque<>();
+        pending.add(sourceNode);
+
+        while (!pending.isEmpty()) {
+            NodeId nodeId = pending.poll();
+
+            if (notifiers.add(nodeId)) {
+                List<Reference> references = namespaceManager.getReferences(nodeId).orElse(Collections.emptyList());
+
+                for (Reference reference : references) {
+                    NodeId referenceTypeId = reference.getReferenceTypeId();
+
+                    if (reference.isInverse() && (Identifiers.HasEventSource.equals(referenceTypeId) ||
+                            Identifiers.HasNotifier.equals(referenceTypeId))) {
+
+                        namespaceManager.toNodeId(reference.getTargetNodeId()).ifPresent(pending::add);
+                    }
+                }
+            }
+        }
+
+        notifiers.add(Identifiers.Server);
+
+        return ImmutableSet.copyOf(notifiers);
+    }
+
+    /**
+     * The notifiers a source node's events are reported to, and the {@link NamespaceManager#getNotifierVersion()} read
+     * before they were computed.
+     */
+    private static final class Notifiers {
+
+        private final long version;
+        private final Set<NodeId> notifiers;
+
+        private Notifiers(long version, Set<NodeId> notifiers) {
+            this.version = version;
+            this.notifiers = notifiers;
+        }
+
+    }
+
+    /**
+     * The items monitoring a single notifier.
+     */
+    private static final class Subscribers {
+
+        private final List<EventItem> anyType;
+        private final Map<NodeId, List<EventItem>> byType;
+
+        /**
+         * Items indexed under more than one type; an event whose type is a subtype of several of them must still be
+         * delivered to such an item only once.
+         */
+        private final Set<EventItem> multiType;
+
+        private Subscribers(List<EventItem> anyType, Map<NodeId, List<EventItem>> byType, Set<EventItem> multiType) {
+            this.anyType = anyType;
+            this.byType = byType;
+            this.multiType = multiType;
+        }
+
+        private void deliver(BaseEventType event, TypeHierarchy typeHierarchy) {
+            for (EventItem item : anyType) {
+                item.setEvent(event);
+            }
+
+            if (byType.isEmpty()) return;
+
+            Set<EventItem> delivered = null;
+            NodeId type = event.getEventType();
+
+            for (int depth = 0; type != null && depth < MAX_DEPTH; depth++) {
+                List<EventItem> items = byType.get(type);
+
+                if (items != null) {
+                    for (EventItem item : items) {
+                        if (multiType.contains(item)) {
+                            if (delivered == null) delivered = Sets.newIdentityHashSet();
+                            if (!delivered.add(item)) continue;
+                        }
+
+                        item.setEvent(event);
+                    }
+                }
+
+                type = typeHierarchy.getSupertype(type).orElse(null);
+            }
+        }
+
+        private static final class Builder {
+
+            private final List<EventItem> anyType = Lists.newArrayList();
+            private final Map<NodeId, List<EventItem>> byType = Maps.newHashMap();
+            private final Set<EventItem> multiType = Sets.newIdentityHashSet();
+
+            private void add(EventItem item, Optional<Set<NodeId>> eventTypes) {
+                if (eventTypes.isPresent()) {
+                    for (NodeId eventType : eventTypes.get()) {
+                        byType.computeIfAbsent(eventType, t -> Lists.newArrayList()).add(item);
+                    }
+
+                    if (eventTypes.get().size() > 1) multiType.add(item);
+                } else {
+                    anyType.add(item);
+                }
+            }
+
+            private Subscribers build() {
+                ImmutableMap.Builder<NodeId, List<EventItem>> types = ImmutableMap.builder();
+                byType.forEach((type, items) -> types.put(type, ImmutableList.copyOf(items)));
+
+                return new Subscribers(ImmutableList.copyOf(anyType), types.build(), multiType);
+            }
+
+        }
+
+    }
+
+}
@@ -19,9 +19,11 @@ package com.inductiveautomation.opcua.sdk.server.items;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.google.common.primitives.Ints;
 import com.inductiveautomation.opcua.sdk.server.api.MonitoredItem;
+import com.inductiveautomation.opcua.sdk.server.util.BoundedQueue;
 import com.inductiveautomation.opcua.sdk.server.util.RingBuffer;
 import com.inductiveautomation.opcua.stack.core.UaException;
 import com.inductiveautomation.opcua.stack.core.serialization.UaStructure;
@@ -38,7 +40,10 @@ public abstract class BaseMonitoredItem<ValueType> implements MonitoredItem {
     protected volatile Map<UInteger, BaseMonitoredItem<?>> triggeredItems;
     protected volatile boolean triggered = false;
 
-    protected volatile RingBuffer<ValueType> queue;
+    protected volatile BoundedQueue<ValueType> queue;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile DirtyListener dirtyListener;
 
     protected volatile long clientHandle;
     protected volatile int queueSize;
@@ -69,7 +74,19 @@ public abstract class BaseMonitoredItem<ValueType> implements MonitoredItem {
 
         setQueueSize(queueSize);
 
-        queue = new RingBuffer<>(this.queueSize);
+        queue = newQueue(this.queueSize);
+    }
+
+    /**
+     * Create the queue values are held in until they are reported.
+     * <p>
+     * Called from the constructor; implementations must not depend on subclass state.
+     *
+     * @param queueSize the size of the queue.
+     * @return a new, empty {@link BoundedQueue}.
+     */
+    protected BoundedQueue<ValueType> newQueue(int queueSize) {
+        return new RingBuffer<>(queueSize);
     }
 
     protected void setQueueSize(UInteger queueSize) {
@@ -117,8 +134,8 @@ public abstract class BaseMonitoredItem<ValueType> implements MonitoredItem {
         if (queueSize.intValue() != this.queueSize) {
             setQueueSize(queueSize);
 
-            RingBuffer<ValueType> oldQueue = queue;
-            queue = new RingBuffer<>(this.queueSize);
+            BoundedQueue<ValueType> oldQueue = queue;
+            queue = newQueue(this.queueSize);
 
             while (oldQueue.size() > 0) {
                 enqueue(oldQueue.remove());
@@ -133,9 +150,42 @@ public abstract class BaseMonitoredItem<ValueType> implements MonitoredItem {
 
         if (monitoringMode == MonitoringMode.Disabled) {
             queue.clear();
+        } else if (monitoringMode == MonitoringMode.Reporting && !queue.isEmpty()) {
+            markDirty();
         }
     }
 
+    /**
+     * Set the {@link DirtyListener} to notify when this item may have notifications to report.
+     *
+     * @param dirtyListener the {@link DirtyListener}, or {@code null} to stop notifying.
+     */
+    public void setDirtyListener(DirtyListener dirtyListener) {
+        this.dirtyListener = dirtyListener;
+    }
+
+    /**
+     * Mark this item as possibly having notifications to report. The {@link DirtyListener} is only notified if the item
+     * isn't already marked, i.e. at most once until {@link #clearDirty()} is called.
+     */
+    protected void markDirty() {
+        DirtyListener listener = dirtyListener;
+
+        if (listener != null && !dirty.get() && dirty.compareAndSet(false, true)) {
+            listener.onDirty(this);
+        }
+    }
+
+    /**
+     * Clear the dirty mark so the next change notifies the {@link DirtyListener} again.
+     * <p>
+     * Callers should clear the mark <em>before</em> checking {@link #hasNotifications()} or {@link #isTriggered()} so
+     * that no change can slip in between the check and the clear unnoticed.
+     */
+    public void clearDirty() {
+        dirty.set(false);
+    }
+
     @Override
     public UInteger getId() {
         return id;
@@ -187,4 +237,8 @@ public abstract class BaseMonitoredItem<ValueType> implements MonitoredItem {
 
     protected abstract UaStructure wrapQueueValue(ValueType value);
 
+    public static interface DirtyListener {
+        void onDirty(BaseMonitoredItem<?> item);
+    }
+
 }
@@ -16,9 +16,19 @@
 
 package com.inductiveautomation.opcua.sdk.server.items;
 
+import java.util.function.Consumer;
+
 import com.inductiveautomation.opcua.sdk.core.AttributeIds;
 import com.inductiveautomation.opcua.sdk.server.api.DataItem;
+import com.inductiveautomation.opcua.sdk.server.model.AttributeObserver;
+import com.inductiveautomation.opcua.sdk.server.model.UaNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.AnalogItemNode;
+import com.inductiveautomation.opcua.sdk.server.util.AggregateMonitoringFilter;
+import com.inductiveautomation.opcua.sdk.server.util.AggregateMonitoringFilter.AggregateType;
+import com.inductiveautomation.opcua.sdk.server.util.BoundedQueue;
 import com.inductiveautomation.opcua.sdk.server.util.DataChangeMonitoringFilter;
+import com.inductiveautomation.opcua.sdk.server.util.DataValueRingBuffer;
+import com.inductiveautomation.opcua.sdk.server.util.RingBuffer;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
 import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
@@ -31,11 +41,14 @@ import com.inductiveautomation.opcua.stack.core.types.enumerated.DataChangeTrigg
 import com.inductiveautomation.opcua.stack.core.types.enumerated.DeadbandType;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.AggregateConfiguration;
 import com.inductiveautomation.opcua.stack.core.types.structured.AggregateFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.AggregateFilterResult;
 import com.inductiveautomation.opcua.stack.core.types.structured.DataChangeFilter;
 import com.inductiveautomation.opcua.stack.core.types.structured.EventFilter;
 import com.inductiveautomation.opcua.stack.core.types.structured.MonitoredItemNotification;
 import com.inductiveautomation.opcua.stack.core.types.structured.MonitoringFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.Range;
 import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
 
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
@@ -49,9 +62,25 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
     );
 
     private volatile DataValue lastValue = null;
-    private volatile DataChangeFilter filter = null;
+    private volatile DataChangeMonitoringFilter filter = null;
     private volatile ExtensionObject filterResult = null;
 
+    /**
+     * Present when an {@link AggregateFilter} is installed, in which case only aggregate results are reported.
+     */
+    private volatile AggregateMonitoringFilter aggregate = null;
+    private final Consumer<DataValue> aggregateResults = this::report;
+
+    /**
+     * The EURange of the monitored node, cached for Percent deadband filters; kept up to date by observing the
+     * node's EURange Property. The observer is held here because nodes only hold their observers weakly.
+     */
+    private volatile Range euRange = null;
+    private volatile UaNode euRangeNode = null;
+    private final AttributeObserver euRangeObserver = (node, attributeId, value) -> {
+        if (attributeId == AttributeIds.Value) onEURangeChanged(value);
+    };
+
     public MonitoredDataItem(UInteger id,
                              ReadValueId readValueId,
                              MonitoringMode monitoringMode,
@@ -69,21 +98,50 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
 
     @Override
     public synchronized void setValue(DataValue value) {
-        boolean valuePassesFilter = DataChangeMonitoringFilter.filter(lastValue, value, filter);
+        AggregateMonitoringFilter aggregate = this.aggregate;
 
-        if (valuePassesFilter) {
-            lastValue = value;
+        if (aggregate != null) {
+            aggregate.update(value, aggregateResults);
+        } else if (filter.filter(lastValue, value)) {
+            report(value);
+        }
+    }
 
-            enqueue(value);
+    private void report(DataValue value) {
+        lastValue = value;
 
-            if (triggeredItems != null) {
-                triggeredItems.values().forEach(item -> item.triggered = true);
-            }
+        enqueue(value);
+        markDirty();
+
+        if (triggeredItems != null) {
+            triggeredItems.values().forEach(item -> {
+                item.triggered = true;
+                item.markDirty();
+            });
         }
     }
 
+    /**
+     * Queues of more than one value start out as a {@link DataValueRingBuffer}; {@link #enqueue(DataValue)} switches to
+     * a regular {@link RingBuffer} for good the first time a value can't be stored compactly. A queue of one value,
+     * the default, is a regular {@link RingBuffer} from the start: it holds a single reference, which the compact
+     * buffer's five arrays can't improve on.
+     */
+    @Override
+    protected BoundedQueue<DataValue> newQueue(int queueSize) {
+        return queueSize > 1 ? new DataValueRingBuffer(queueSize) : new RingBuffer<>(queueSize);
+    }
+
     @Override
     protected void enqueue(DataValue value) {
+        if (queue instanceof DataValueRingBuffer) {
+            DataValueRingBuffer compact = (DataValueRingBuffer) queue;
+
+            if (!compact.accepts(value)) {
+                queue = compact.inflate();
+            }
+        }
+
         if (queue.size() < queue.maxSize()) {
             queue.add(value);
         } else {
@@ -137,18 +195,129 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
         lastValue = null;
     }
 
+    public DeadbandType getDeadbandType() {
+        return filter.getDeadbandType();
+    }
+
+    /**
+     * Modify this item, resolving the EURange of a Percent deadband filter from {@code node}. The EURange is resolved
+     * before anything is changed, so if it can't be resolved the exception is thrown with the item left as it was.
+     *
+     * @param node the node being monitored, or {@code null} if it couldn't be found.
+     * @throws UaException if the filter is invalid, or it has a Percent deadband and {@code node} is not an
+     *                     AnalogItem or has no EURange.
+     */
+    public synchronized void modify(TimestampsToReturn timestamps,
+                                    UInteger clientHandle,
+                                    double samplingInterval,
+                                    ExtensionObject filter,
+                                    UInteger queueSize,
+                                    boolean discardOldest,
+                                    UaNode node) throws UaException {
+
+        Range range = isPercentDeadband(filter) ? resolveEURange(node) : null;
+
+        modify(timestamps, clientHandle, samplingInterval, filter, queueSize, discardOldest);
+
+        if (range != null) {
+            installEURange((AnalogItemNode) node, range);
+        }
+    }
+
+    /**
+     * Resolve the EURange a Percent deadband is relative to from {@code node} and observe its EURange Property for
+     * changes. Does nothing unless the installed filter has a Percent deadband.
+     *
+     * @param node the node being monitored, or {@code null} if it couldn't be found.
+     * @throws UaException if {@code node} is not an AnalogItem or has no EURange.
+     */
+    public void installEURange(UaNode node) throws UaException {
+        if (filter.getDeadbandType() != DeadbandType.Percent) {
+            uninstallEURange();
+            return;
+        }
+
+        installEURange((AnalogItemNode) node, resolveEURange(node));
+    }
+
+    private void installEURange(AnalogItemNode node, Range range) {
+        uninstallEURange();
+
+        euRange = range;
+        filter.setEURange(range);
+
+        node.getPropertyNode("EURange").ifPresent(propertyNode -> {
+            if (propertyNode instanceof UaNode) {
+                euRangeNode = (UaNode) propertyNode;
+                euRangeNode.addAttributeObserver(euRangeObserver);
+            }
+        });
+    }
+
+    private static Range resolveEURange(UaNode node) throws UaException {
+        if (!(node instanceof AnalogItemNode)) {
+            throw new UaException(StatusCodes.Bad_FilterNotAllowed);
+        }
+
+        Range range = ((AnalogItemNode) node).getEURange();
+
+        if (range == null) {
+            throw new UaException(StatusCodes.Bad_DeadbandFilterInvalid);
+        }
+
+        return range;
+    }
+
+    private static boolean isPercentDeadband(ExtensionObject filterXo) {
+        Object filterObject = filterXo != null ? filterXo.getObject() : null;
+
+        return filterObject instanceof DataChangeFilter &&
+                DeadbandType.from(((DataChangeFilter) filterObject).getDeadbandType().intValue()) ==
+                        DeadbandType.Percent;
+    }
+
+    /**
+     * Stop observing the EURange of the monitored node, if it's being observed.
+     */
+    public void uninstallEURange() {
+        UaNode node = euRangeNode;
+
+        if (node != null) {
+            node.removeAttributeObserver(euRangeObserver);
+            euRangeNode = null;
+        }
+    }
+
+    /**
+     * Called with the node's lock held; must not synchronize on this item.
+     */
+    private void onEURangeChanged(Object value) {
+        Object range = (value instanceof DataValue) ? ((DataValue) value).getValue().getValue() : value;
+
+        if (range instanceof ExtensionObject) {
+            range = ((ExtensionObject) range).getObject();
+        }
+
+        euRange = (range instanceof Range) ? (Range) range : null;
+        filter.setEURange(euRange);
+    }
+
     @Override
     protected void installFilter(ExtensionObject filterXo) throws UaException {
         if (filterXo == null || filterXo.getObject() == null) {
-            this.filter = DefaultFilter;
+            this.filter = DataChangeMonitoringFilter.compile(DefaultFilter);
+            this.aggregate = null;
+            this.filterResult = null;
+
+            uninstallEURange();
         } else {
             Object filterObject = filterXo.getObject();
 
             if (filterObject instanceof MonitoringFilter) {
                 if (filterObject instanceof DataChangeFilter) {
-                    this.filter = ((DataChangeFilter) filterObject);
+                    DataChangeFilter dataChangeFilter = (DataChangeFilter) filterObject;
 
-                    DeadbandType deadbandType = DeadbandType.from(filter.getDeadbandType().intValue());
+                    DeadbandType deadbandType = DeadbandType.from(dataChangeFilter.getDeadbandType().intValue());
 
                     if (deadbandType == null) {
                         throw new UaException(StatusCodes.Bad_DeadbandFilterInvalid);
@@ -158,8 +327,26 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
                             getReadValueId().getAttributeId().intValue() != AttributeIds.Value) {
                         throw new UaException(StatusCodes.Bad_FilterNotAllowed);
                     }
+
+                    if (deadbandType == DeadbandType.Percent) {
+                        double deadbandValue = dataChangeFilter.getDeadbandValue();
+
+                        if (deadbandValue < 0.0 || deadbandValue > 100.0) {
+                            throw new UaException(StatusCodes.Bad_DeadbandFilterInvalid);
+                        }
+                    }
+
+                    this.filter = DataChangeMonitoringFilter.compile(dataChangeFilter);
+                    this.aggregate = null;
+                    this.filterResult = null;
+
+                    if (deadbandType == DeadbandType.Percent) {
+                        filter.setEURange(euRange);
+                    } else {
+                        uninstallEURange();
+                    }
                 } else if (filterObject instanceof AggregateFilter) {
-                    throw new UaException(StatusCodes.Bad_MonitoredItemFilterUnsupported);
+                    installAggregateFilter((AggregateFilter) filterObject);
                 } else if (filterObject instanceof EventFilter) {
                     throw new UaException(StatusCodes.Bad_FilterNotAllowed);
                 }
@@ -169,6 +356,41 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
         }
     }
 
+    private void installAggregateFilter(AggregateFilter aggregateFilter) throws UaException {
+        if (getReadValueId().getAttributeId().intValue() != AttributeIds.Value) {
+            throw new UaException(StatusCodes.Bad_FilterNotAllowed);
+        }
+
+        AggregateType aggregateType = AggregateType.from(aggregateFilter.getAggregateType());
+
+        if (aggregateType == null) {
+            throw new UaException(StatusCodes.Bad_AggregateNotSupported);
+        }
+
+        DateTime startTime = aggregateFilter.getStartTime();
+        if (startTime == null || startTime.getUtcTime() <= 0) {
+            startTime = DateTime.now();
+        }
+
+        Double requestedInterval = aggregateFilter.getProcessingInterval();
+        double processingInterval = Math.max(
+                requestedInterval != null ? requestedInterval : 0.0,
+                getSamplingInterval()
+        );
+
+        AggregateConfiguration configuration = aggregateFilter.getAggregateConfiguration();
+        boolean treatUncertainAsBad = configuration != null &&
+                Boolean.TRUE.equals(configuration.getTreatUncertainAsBad());
+
+        this.filter = DataChangeMonitoringFilter.compile(DefaultFilter);
+        this.aggregate = new AggregateMonitoringFilter(
+                aggregateType, startTime, processingInterval, treatUncertainAsBad);
+        this.filterResult = new ExtensionObject(
+                new AggregateFilterResult(startTime, processingInterval, configuration));
+
+        uninstallEURange();
+    }
+
     @Override
     public ExtensionObject getFilterResult() {
         return filterResult;
@@ -16,23 +16,39 @@
 
 package com.inductiveautomation.opcua.sdk.server.items;
 
+import java.util.Optional;
+import java.util.Set;
+
 import com.inductiveautomation.opcua.sdk.core.events.BaseEventType;
+import com.inductiveautomation.opcua.sdk.server.NamespaceManager;
 import com.inductiveautomation.opcua.sdk.server.api.EventItem;
+import com.inductiveautomation.opcua.sdk.server.util.EventContentFilter;
+import com.inductiveautomation.opcua.sdk.server.util.EventFieldSelector;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
 import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import com.inductiveautomation.opcua.stack.core.types.structured.EventFieldList;
 import com.inductiveautomation.opcua.stack.core.types.structured.EventFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.EventFilterResult;
 import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import com.inductiveautomation.opcua.stack.core.types.structured.SimpleAttributeOperand;
 
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
 public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements EventItem {
 
+    private final NamespaceManager namespaceManager;
+
     private volatile EventFilter filter;
+    private volatile EventFieldSelector selector;
+    private volatile EventContentFilter whereClause;
+    private volatile ExtensionObject filterResult;
 
     public MonitoredEventItem(UInteger id,
                               ReadValueId readValueId,
@@ -42,31 +58,87 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
                               double samplingInterval,
                               UInteger queueSize,
                               boolean discardOldest,
-                              ExtensionObject filter) throws UaException {
+                              ExtensionObject filter,
+                              NamespaceManager namespaceManager) throws UaException {
 
         super(id, readValueId, monitoringMode, timestamps, clientHandle, samplingInterval, queueSize, discardOldest);
 
+        this.namespaceManager = namespaceManager;
+
         installFilter(filter);
     }
 
     @Override
-    public void setEvent(BaseEventType event) {
-
+    public synchronized void setEvent(BaseEventType event) {
+        if (monitoringMode == MonitoringMode.Disabled) return;
+        if (!whereClause.evaluate(event)) return;
+
+        enqueue(selector.select(event));
+        markDirty();
+
+        if (triggeredItems != null) {
+            triggeredItems.values().forEach(item -> {
+                item.triggered = true;
+                item.markDirty();
+            });
+        }
     }
 
     @Override
     protected void enqueue(Variant[] value) {
+        if (queue.size() < queue.maxSize() || discardOldest) {
+            queue.add(value);
+        } else {
+            queue.set(queue.maxSize() - 1, value);
+        }
+    }
 
+    @Override
+    public Optional<Set<NodeId>> getEventTypes() {
+        return Optional.ofNullable(whereClause.getEventTypes());
     }
 
     @Override
     public ExtensionObject getFilterResult() {
-        return null;
+        return filterResult;
+    }
+
+    public EventFilter getFilter() {
+        return filter;
     }
 
     @Override
     protected void installFilter(ExtensionObject filterXo) throws UaException {
+        Object filterObject = (filterXo != null) ? filterXo.getObject() : null;
 
+        if (!(filterObject instanceof EventFilter)) {
+            throw new UaException(StatusCodes.Bad_EventFilterInvalid);
+        }
+
+        EventFilter eventFilter = (EventFilter) filterObject;
+        SimpleAttributeOperand[] selectClauses = eventFilter.getSelectClauses();
+
+        if (selectClauses == null || selectClauses.length == 0) {
+            throw new UaException(StatusCodes.Bad_EventFilterInvalid);
+        }
+
+        EventFieldSelector selector = EventFieldSelector.compile(selectClauses);
+        EventContentFilter whereClause = EventContentFilter.compile(eventFilter.getWhereClause(), namespaceManager);
+
+        if (!whereClause.isValid()) {
+            throw new UaException(StatusCodes.Bad_EventFilterInvalid, "where clause invalid");
+        }
+
+        EventFilterResult result = new EventFilterResult(
+                selector.getSelectClauseResults(),
+                new DiagnosticInfo[0],
+                whereClause.getContentFilterResult()
+        );
+
+        this.filter = eventFilter;
+        this.selector = selector;
+        this.whereClause = whereClause;
+        this.filterResult = new ExtensionObject(result);
     }
 
     @Override
@@ -79,7 +151,4 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
         return getMonitoringMode() != MonitoringMode.Disabled;
     }
 
-    public static BaseMonitoredItem<?> create() {
-        return null; // TODO
-    }
 }
@@ -39,9 +39,6 @@ import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
 import com.inductiveautomation.opcua.stack.core.types.structured.Argument;
 
-import static com.inductiveautomation.opcua.sdk.core.Reference.ALWAYS_GENERATES_EVENT_PREDICATE;
-import static com.inductiveautomation.opcua.sdk.core.Reference.HAS_MODELLING_RULE_PREDICATE;
-import static com.inductiveautomation.opcua.sdk.core.Reference.HAS_PROPERTY_PREDICATE;
 import static com.inductiveautomation.opcua.sdk.server.util.StreamUtil.opt2stream;
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
@@ -93,15 +90,13 @@ public class UaMethodNode extends UaNode implements MethodNode {
     }
 
     public List<Node> getPropertyNodes() {
-        return getReferences().stream()
-                .filter(HAS_PROPERTY_PREDICATE)
+        return getReferences(Identifiers.HasProperty, true).stream()
                 .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
                 .collect(Collectors.toList());
     }
 
     public Optional<ObjectNode> getModellingRuleNode() {
-        Node node = getReferences().stream()
-                .filter(HAS_MODELLING_RULE_PREDICATE)
+        Node node = getReferences(Identifiers.HasModellingRule, true).stream()
                 .findFirst()
                 .flatMap(r -> getNode(r.getTargetNodeId()))
                 .orElse(null);
@@ -112,8 +107,7 @@ public class UaMethodNode extends UaNode implements MethodNode {
     }
 
     public List<Node> getAlwaysGeneratesEventNodes() {
-        return getReferences().stream()
-                .filter(ALWAYS_GENERATES_EVENT_PREDICATE)
+        return getReferences(Identifiers.AlwaysGeneratesEvent, true).stream()
                 .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
                 .collect(Collectors.toList());
     }
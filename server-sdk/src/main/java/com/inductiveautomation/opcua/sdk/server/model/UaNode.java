@@ -18,21 +18,26 @@ package com.inductiveautomation.opcua.sdk.server.model;
 
 import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.inductiveautomation.opcua.sdk.core.AttributeIds;
 import com.inductiveautomation.opcua.sdk.core.Reference;
 import com.inductiveautomation.opcua.sdk.core.nodes.Node;
 import com.inductiveautomation.opcua.sdk.core.nodes.ObjectNode;
 import com.inductiveautomation.opcua.sdk.core.nodes.VariableNode;
 import com.inductiveautomation.opcua.sdk.server.api.UaNamespace;
+import com.inductiveautomation.opcua.sdk.server.util.BrowseHeader;
 import com.inductiveautomation.opcua.stack.core.Identifiers;
 import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
@@ -53,7 +58,25 @@ public abstract class UaNode implements Node {
 
     private final AtomicInteger refCount = new AtomicInteger(0);
 
-    private final List<Reference> references = new CopyOnWriteArrayList<>();
+    /**
+     * Guarded by {@code this}; read through {@link #referenceIndex()}.
+     */
+    private final List<Reference> references = Lists.newArrayList();
+
+    /**
+     * An immutable index of {@link #references}, or {@code null} if references have changed since it was built.
+     */
+    private volatile ReferenceIndex referenceIndex = ReferenceIndex.EMPTY;
+
+    /**
+     * Children by browse name, or {@code null} if not built yet or invalidated.
+     */
+    private volatile ChildIndex childIndex;
+
+    /**
+     * This node's {@link BrowseHeader}, or {@code null} if not built yet or invalidated.
+     */
+    private volatile BrowseHeader browseHeader;
 
     private List<WeakReference<AttributeObserver>> observers;
 
@@ -132,6 +155,32 @@ public abstract class UaNode implements Node {
         return userWriteMask;
     }
 
+    /**
+     * @return this node's {@link BrowseHeader}, built from its attributes and indexed references. It's cached until
+     * the BrowseName, DisplayName, NodeClass or references change.
+     */
+    public BrowseHeader getBrowseHeader() {
+        BrowseHeader header = browseHeader;
+
+        return header != null ? header : buildBrowseHeader();
+    }
+
+    private synchronized BrowseHeader buildBrowseHeader() {
+        BrowseHeader header = browseHeader;
+
+        if (header == null) {
+            ImmutableList<Reference> typeDefinitions = getReferences(Identifiers.HasTypeDefinition, true);
+
+            browseHeader = header = new BrowseHeader(
+                    getBrowseName(),
+                    getDisplayName(),
+                    getNodeClass(),
+                    typeDefinitions.isEmpty() ? ExpandedNodeId.NULL_VALUE : typeDefinitions.get(0).getTargetNodeId());
+        }
+
+        return header;
+    }
+
     @Override
     public synchronized void setNodeId(NodeId nodeId) {
         this.nodeId = nodeId;
@@ -142,6 +191,7 @@ public abstract class UaNode implements Node {
     @Override
     public synchronized void setNodeClass(NodeClass nodeClass) {
         this.nodeClass = nodeClass;
+        this.browseHeader = null;
 
         fireAttributeChanged(AttributeIds.NodeClass, nodeClass);
     }
@@ -149,6 +199,15 @@ public abstract class UaNode implements Node {
     @Override
     public synchronized void setBrowseName(QualifiedName browseName) {
         this.browseName = browseName;
+        this.browseHeader = null;
+
+        for (Reference reference : referenceIndex().all) {
+            if (reference.isInverse() && isChildReferenceType(reference.getReferenceTypeId())) {
+                getNode(reference.getTargetNodeId()).ifPresent(UaNode::invalidateChildIndex);
+            }
+        }
+
+        namespace.onNodeChanged(this);
 
         fireAttributeChanged(AttributeIds.BrowseName, browseName);
     }
@@ -156,6 +215,7 @@ public abstract class UaNode implements Node {
     @Override
     public synchronized void setDisplayName(LocalizedText displayName) {
         this.displayName = displayName;
+        this.browseHeader = null;
 
         fireAttributeChanged(AttributeIds.DisplayName, displayName);
     }
@@ -193,11 +253,66 @@ public abstract class UaNode implements Node {
         return namespace.getNode(nodeId);
     }
 
+    /**
+     * @return all of this node's references. The list is an immutable snapshot; it isn't copied.
+     */
     public ImmutableList<Reference> getReferences() {
-        return ImmutableList.copyOf(references);
+        return referenceIndex().all;
+    }
+
+    /**
+     * @param referenceTypeId the exact reference type; subtypes aren't included.
+     * @param forward         {@code true} for forward references, {@code false} for inverse references.
+     * @return this node's references of type {@code referenceTypeId} in the given direction. The list is an
+     * immutable snapshot; it isn't copied.
+     */
+    public ImmutableList<Reference> getReferences(NodeId referenceTypeId, boolean forward) {
+        ReferenceIndex index = referenceIndex();
+        ImmutableList<Reference> references = (forward ? index.forward : index.inverse).get(referenceTypeId);
+
+        return references != null ? references : ImmutableList.of();
+    }
+
+    private ReferenceIndex referenceIndex() {
+        ReferenceIndex index = referenceIndex;
+
+        if (index == null) {
+            synchronized (this) {
+                index = referenceIndex;
+
+                if (index == null) {
+                    referenceIndex = index = new ReferenceIndex(references);
+                }
+            }
+        }
+
+        return index;
     }
 
     public synchronized void addReference(Reference reference) {
+        doAddReference(reference);
+        referencesChanged(Collections.singletonList(reference));
+    }
+
+    /**
+     * Add all of {@code c}, notifying the namespace once rather than once per reference.
+     */
+    public synchronized void addReferences(Collection<Reference> c) {
+        c.forEach(this::doAddReference);
+        referencesChanged(c);
+    }
+
+    public synchronized void removeReference(Reference reference) {
+        doRemoveReference(reference);
+        referencesChanged(Collections.singletonList(reference));
+    }
+
+    public synchronized void removeReferences(Collection<Reference> c) {
+        c.forEach(this::doRemoveReference);
+        referencesChanged(c);
+    }
+
+    private void doAddReference(Reference reference) {
         references.add(reference);
 
         if (reference.isInverse()) {
@@ -210,11 +325,7 @@ public abstract class UaNode implements Node {
         }
     }
 
-    public synchronized void addReferences(Collection<Reference> c) {
-        c.forEach(this::addReference);
-    }
-
-    public synchronized void removeReference(Reference reference) {
+    private void doRemoveReference(Reference reference) {
         references.remove(reference);
 
         if (reference.isInverse()) {
@@ -227,8 +338,51 @@ public abstract class UaNode implements Node {
         }
     }
 
-    public synchronized void removeReferences(Collection<Reference> c) {
-        c.forEach(this::removeReference);
+    private synchronized void referencesChanged(Collection<Reference> changed) {
+        referenceIndex = null;
+        childIndex = null;
+        browseHeader = null;
+
+        namespace.onReferencesChanged(this, changed);
+    }
+
+    private synchronized void invalidateChildIndex() {
+        childIndex = null;
+    }
+
+    /**
+     * @param referenceTypeId the forward reference type: HasProperty or HasComponent.
+     * @param nodeClass       the NodeClass of a HasComponent child; ignored for HasProperty.
+     * @param browseName      the browse name of the child.
+     * @return the first child of this node with {@code browseName}, targeted by a {@code referenceTypeId} reference.
+     */
+    private Optional<UaNode> getChild(NodeId referenceTypeId, NodeClass nodeClass, QualifiedName browseName) {
+        ChildIndex index = childIndex;
+
+        if (index == null) {
+            index = buildChildIndex();
+        }
+
+        ExpandedNodeId childId = index.get(referenceTypeId, nodeClass, browseName);
+
+        return childId != null ? getNode(childId) : Optional.empty();
+    }
+
+    private synchronized ChildIndex buildChildIndex() {
+        ChildIndex index = childIndex;
+
+        if (index == null) {
+            childIndex = index = new ChildIndex(
+                    getReferences(Identifiers.HasProperty, true),
+                    getReferences(Identifiers.HasComponent, true)
+            );
+        }
+
+        return index;
+    }
+
+    private static boolean isChildReferenceType(NodeId referenceTypeId) {
+        return Identifiers.HasProperty.equals(referenceTypeId) || Identifiers.HasComponent.equals(referenceTypeId);
     }
 
     protected synchronized void deallocate() {
@@ -302,11 +456,7 @@ public abstract class UaNode implements Node {
     }
 
     public Optional<VariableNode> getPropertyNode(QualifiedName browseName) {
-        Node node = references.stream()
-                .filter(Reference.HAS_PROPERTY_PREDICATE)
-                .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
-                .filter(n -> n.getBrowseName().equals(browseName))
-                .findFirst().orElse(null);
+        Node node = getChild(Identifiers.HasProperty, null, browseName).orElse(null);
 
         try {
             return Optional.ofNullable((VariableNode) node);
@@ -356,13 +506,9 @@ public abstract class UaNode implements Node {
     }
 
     protected Optional<ObjectNode> getObjectComponent(QualifiedName browseName) {
-        ObjectNode node = (ObjectNode) references.stream()
-                .filter(Reference.HAS_COMPONENT_PREDICATE.and(r -> r.getTargetNodeClass() == NodeClass.Object))
-                .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
-                .filter(n -> n.getBrowseName().equals(browseName))
-                .findFirst().orElse(null);
-
-        return Optional.ofNullable(node);
+        return getChild(Identifiers.HasComponent, NodeClass.Object, browseName)
+                .filter(n -> n.getNodeClass() == NodeClass.Object)
+                .map(n -> (ObjectNode) n);
     }
 
     protected Optional<VariableNode> getVariableComponent(String browseName) {
@@ -370,13 +516,9 @@ public abstract class UaNode implements Node {
     }
 
     protected Optional<VariableNode> getVariableComponent(QualifiedName browseName) {
-        VariableNode node = (VariableNode) references.stream()
-                .filter(Reference.HAS_COMPONENT_PREDICATE.and(r -> r.getTargetNodeClass() == NodeClass.Variable))
-                .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
-                .filter(n -> n.getBrowseName().equals(browseName))
-                .findFirst().orElse(null);
-
-        return Optional.ofNullable(node);
+        return getChild(Identifiers.HasComponent, NodeClass.Variable, browseName)
+                .filter(n -> n.getNodeClass() == NodeClass.Variable)
+                .map(n -> (VariableNode) n);
     }
 
     public synchronized void addAttributeObserver(AttributeObserver observer) {
@@ -418,4 +560,109 @@ public abstract class UaNode implements Node {
         }
     }
 
+    /**
+     * A node's references, grouped by reference type and direction.
+     */
+    private static final class ReferenceIndex {
+
+        private static final ReferenceIndex EMPTY = new ReferenceIndex(ImmutableList.of());
+
+        private final ImmutableList<Reference> all;
+        private final ImmutableMap<NodeId, ImmutableList<Reference>> forward;
+        private final ImmutableMap<NodeId, ImmutableList<Reference>> inverse;
+
+        private ReferenceIndex(List<Reference> references) {
+            Map<NodeId, ImmutableList.Builder<Reference>> forward = Maps.newLinkedHashMap();
+            Map<NodeId, ImmutableList.Builder<Reference>> inverse = Maps.newLinkedHashMap();
+
+            for (Reference reference : references) {
+                (reference.isForward() ? forward : inverse)
+                        .computeIfAbsent(reference.getReferenceTypeId(), t -> ImmutableList.builder())
+                        .add(reference);
+            }
+
+            this.all = ImmutableList.copyOf(references);
+            this.forward = build(forward);
+            this.inverse = build(inverse);
+        }
+
+        private static ImmutableMap<NodeId, ImmutableList<Reference>> build(
+                Map<NodeId, ImmutableList.Builder<Reference>> builders) {
+
+            ImmutableMap.Builder<NodeId, ImmutableList<Reference>> map = ImmutableMap.builder();
+            builders.forEach((referenceTypeId, builder) -> map.put(referenceTypeId, builder.build()));
+            return map.build();
+        }
+
+    }
+
+    /**
+     * A node's HasProperty and HasComponent targets by browse name. The first target with a given browse name wins.
+     * <p>
+     * Targets are resolved through the namespace only when a lookup misses, and only until the browse name is found,
+     * so a lookup doesn't build every child of a lazily loaded node. Targets that aren't in the namespace yet stay
+     * unresolved and are retried on the next miss. Components are kept apart by the NodeClass their reference
+     * declares, so an Object and a Variable with the same browse name don't hide each other.
+     */
+    private final class ChildIndex {
+
+        private final Children properties;
+        private final Map<NodeClass, Children> components = Maps.newEnumMap(NodeClass.class);
+
+        private ChildIndex(List<Reference> propertyReferences, List<Reference> componentReferences) {
+            properties = new Children();
+            propertyReferences.forEach(r -> properties.unresolved.add(r.getTargetNodeId()));
+
+            for (Reference reference : componentReferences) {
+                components.computeIfAbsent(reference.getTargetNodeClass(), c -> new Children())
+                        .unresolved.add(reference.getTargetNodeId());
+            }
+        }
+
+        private ExpandedNodeId get(NodeId referenceTypeId, NodeClass nodeClass, QualifiedName browseName) {
+            Children children = Identifiers.HasProperty.equals(referenceTypeId) ?
+                    properties : components.get(nodeClass);
+
+            return children != null ? children.get(browseName) : null;
+        }
+
+    }
+
+    private final class Children {
+
+        private final Map<QualifiedName, ExpandedNodeId> resolved = Maps.newConcurrentMap();
+
+        /**
+         * Targets not resolved yet, in reference order. Guarded by the node's lock.
+         */
+        private final List<ExpandedNodeId> unresolved = Lists.newLinkedList();
+
+        private ExpandedNodeId get(QualifiedName browseName) {
+            ExpandedNodeId childId = resolved.get(browseName);
+
+            return childId != null ? childId : resolve(browseName);
+        }
+
+        private ExpandedNodeId resolve(QualifiedName browseName) {
+            synchronized (UaNode.this) {
+                ExpandedNodeId childId = resolved.get(browseName);
+                Iterator<ExpandedNodeId> iterator = unresolved.iterator();
+
+                while (childId == null && iterator.hasNext()) {
+                    ExpandedNodeId targetId = iterator.next();
+                    UaNode node = getNode(targetId).orElse(null);
+
+                    if (node != null) {
+                        iterator.remove();
+                        resolved.putIfAbsent(node.getBrowseName(), targetId);
+                        childId = resolved.get(browseName);
+                    }
+                }
+
+                return childId;
+            }
+        }
+
+    }
+
 }
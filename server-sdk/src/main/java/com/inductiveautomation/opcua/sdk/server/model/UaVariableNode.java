@@ -52,10 +52,6 @@ import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
 import com.inductiveautomation.opcua.stack.core.types.structured.EUInformation;
 import com.inductiveautomation.opcua.stack.core.types.structured.TimeZoneDataType;
 
-import static com.inductiveautomation.opcua.sdk.core.Reference.HAS_COMPONENT_PREDICATE;
-import static com.inductiveautomation.opcua.sdk.core.Reference.HAS_MODELLING_RULE_PREDICATE;
-import static com.inductiveautomation.opcua.sdk.core.Reference.HAS_PROPERTY_PREDICATE;
-import static com.inductiveautomation.opcua.sdk.core.Reference.HAS_TYPE_DEFINITION_PREDICATE;
 import static com.inductiveautomation.opcua.sdk.server.util.StreamUtil.opt2stream;
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
 import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
@@ -206,8 +202,7 @@ public class UaVariableNode extends UaNode implements VariableNode {
     }
 
     public Optional<ObjectNode> getModellingRuleNode() {
-        Node node = getReferences().stream()
-                .filter(HAS_MODELLING_RULE_PREDICATE)
+        Node node = getReferences(Identifiers.HasModellingRule, true).stream()
                 .findFirst()
                 .flatMap(r -> getNode(r.getTargetNodeId()))
                 .orElse(null);
@@ -218,22 +213,19 @@ public class UaVariableNode extends UaNode implements VariableNode {
     }
 
     public List<Node> getPropertyNodes() {
-        return getReferences().stream()
-                .filter(HAS_PROPERTY_PREDICATE)
+        return getReferences(Identifiers.HasProperty, true).stream()
                 .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
                 .collect(Collectors.toList());
     }
 
     public List<Node> getComponentNodes() {
-        return getReferences().stream()
-                .filter(HAS_COMPONENT_PREDICATE)
+        return getReferences(Identifiers.HasComponent, true).stream()
                 .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
                 .collect(Collectors.toList());
     }
 
     public VariableTypeNode getTypeDefinitionNode() {
-        Node node = getReferences().stream()
-                .filter(HAS_TYPE_DEFINITION_PREDICATE)
+        Node node = getReferences(Identifiers.HasTypeDefinition, true).stream()
                 .findFirst()
                 .flatMap(r -> getNode(r.getTargetNodeId()))
                 .orElse(null);
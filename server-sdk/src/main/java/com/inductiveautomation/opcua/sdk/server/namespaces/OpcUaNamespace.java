@@ -16,6 +16,7 @@
 
 package com.inductiveautomation.opcua.sdk.server.namespaces;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -46,7 +47,9 @@ import com.inductiveautomation.opcua.sdk.server.model.UaVariableNode;
 import com.inductiveautomation.opcua.sdk.server.model.methods.GetMonitoredItems;
 import com.inductiveautomation.opcua.sdk.server.model.objects.ServerNode;
 import com.inductiveautomation.opcua.sdk.server.namespaces.loader.UaNodeLoader;
+import com.inductiveautomation.opcua.sdk.server.namespaces.loader.UaNodeLoader.NodeBuilder;
 import com.inductiveautomation.opcua.sdk.server.util.AnnotationBasedInvocationHandler;
+import com.inductiveautomation.opcua.sdk.server.util.BrowseHeader;
 import com.inductiveautomation.opcua.sdk.server.util.SubscriptionModel;
 import com.inductiveautomation.opcua.stack.core.Identifiers;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
@@ -78,16 +81,25 @@ public class OpcUaNamespace implements UaNamespace {
 
     private final Map<NodeId, UaNode> nodes = Maps.newConcurrentMap();
 
+    /**
+     * When loading lazily, the builders of the nodes that haven't been built yet. Nodes are built under
+     * {@code buildLock}.
+     */
+    private final Map<NodeId, NodeBuilder> unbuilt = Maps.newConcurrentMap();
+    private final Object buildLock = new Object();
+
     private final SubscriptionModel subscriptionModel;
 
     private final OpcUaServer server;
+    private final boolean lazy;
 
     public OpcUaNamespace(OpcUaServer server) {
         this.server = server;
+        this.lazy = server.getConfig().isLazyNodeLoading();
 
         loadNodes();
 
-        subscriptionModel = new SubscriptionModel(this, server.getExecutorService(), server.getScheduledExecutorService());
+        subscriptionModel = new SubscriptionModel(server, this);
 
         configureServerObject();
     }
@@ -104,12 +116,12 @@ public class OpcUaNamespace implements UaNamespace {
 
     @Override
     public boolean containsNodeId(NodeId nodeId) {
-        return nodes.containsKey(nodeId);
+        return node(nodeId) != null;
     }
 
     @Override
     public <T> T getAttribute(NodeId nodeId, int attributeId) {
-        UaNode node = nodes.get(nodeId);
+        UaNode node = node(nodeId);
         if (node != null) {
             try {
                 return (T) node.readAttribute(attributeId).getValue().getValue();
@@ -122,18 +134,21 @@ public class OpcUaNamespace implements UaNamespace {
 
     @Override
     public boolean attributeExists(NodeId nodeId, int attributeId) {
-        UaNode node = nodes.get(nodeId);
+        UaNode node = node(nodeId);
         return node != null && node.hasAttribute(attributeId);
     }
 
     @Override
     public void addNode(UaNode node) {
         nodes.put(node.getNodeId(), node);
+        unbuilt.remove(node.getNodeId());
+
+        server.getNamespaceManager().getBrowsePathCache().invalidate();
     }
 
     @Override
     public Optional<UaNode> getNode(NodeId nodeId) {
-        return Optional.ofNullable(nodes.get(nodeId));
+        return Optional.ofNullable(node(nodeId));
     }
 
     @Override
@@ -143,12 +158,35 @@ public class OpcUaNamespace implements UaNamespace {
 
     @Override
     public Optional<UaNode> removeNode(NodeId nodeId) {
-        return Optional.ofNullable(nodes.remove(nodeId));
+        UaNode node = node(nodeId) != null ? nodes.remove(nodeId) : null;
+
+        if (node != null) {
+            server.getNamespaceManager().getBrowsePathCache().invalidate();
+        }
+
+        return Optional.ofNullable(node);
+    }
+
+    @Override
+    public void onNodeChanged(UaNode node) {
+        server.getNamespaceManager().getBrowsePathCache().invalidate();
+    }
+
+    @Override
+    public void onReferencesChanged(UaNode node, Collection<Reference> references) {
+        server.getNamespaceManager().referencesChanged(references);
+
+        onNodeChanged(node);
+    }
+
+    @Override
+    public boolean isBrowsePathCacheable() {
+        return true;
     }
 
     @Override
     public Optional<List<Reference>> getReferences(NodeId nodeId) {
-        UaNode node = nodes.get(nodeId);
+        UaNode node = node(nodeId);
 
         if (node != null) {
             return Optional.of(node.getReferences());
@@ -157,6 +195,13 @@ public class OpcUaNamespace implements UaNamespace {
         }
     }
 
+    @Override
+    public Optional<BrowseHeader> getBrowseHeader(NodeId nodeId) {
+        UaNode node = node(nodeId);
+
+        return node != null ? Optional.of(node.getBrowseHeader()) : Optional.empty();
+    }
+
     @Override
     public void read(List<ReadValueId> readValueIds,
                      Double maxAge,
@@ -168,7 +213,7 @@ public class OpcUaNamespace implements UaNamespace {
         for (ReadValueId id : readValueIds) {
             DataValue value;
 
-            UaNode node = nodes.get(id.getNodeId());
+            UaNode node = node(id.getNodeId());
 
             if (node != null) {
                 value = node.readAttribute(
@@ -189,7 +234,7 @@ public class OpcUaNamespace implements UaNamespace {
     @Override
     public void write(List<WriteValue> writeValues, CompletableFuture<List<StatusCode>> future) {
         List<StatusCode> results = writeValues.stream().map(wv -> {
-            if (nodes.containsKey(wv.getNodeId())) {
+            if (node(wv.getNodeId()) != null) {
                 return new StatusCode(StatusCodes.Bad_NotWritable);
             } else {
                 return new StatusCode(StatusCodes.Bad_NodeIdUnknown);
@@ -217,29 +262,30 @@ public class OpcUaNamespace implements UaNamespace {
     @Override
     public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {
         subscriptionModel.onMonitoringModeChanged(monitoredItems);
+
+        List<EventItem> eventItems = monitoredItems.stream()
+                .filter(item -> item instanceof EventItem)
+                .map(item -> (EventItem) item)
+                .collect(Collectors.toList());
+
+        if (!eventItems.isEmpty()) {
+            server.getEventRouter().register(eventItems);
+        }
     }
 
     @Override
     public void onEventItemsCreated(List<EventItem> eventItems) {
-        eventItems.stream()
-                .filter(MonitoredItem::isSamplingEnabled)
-                .forEach(item -> server.getEventBus().register(item));
+        server.getEventRouter().register(eventItems);
     }
 
     @Override
     public void onEventItemsModified(List<EventItem> eventItems) {
-        for (EventItem item : eventItems) {
-            if (item.isSamplingEnabled()) {
-                server.getEventBus().register(item);
-            } else {
-                server.getEventBus().unregister(item);
-            }
-        }
+        server.getEventRouter().register(eventItems);
     }
 
     @Override
     public void onEventItemsDeleted(List<EventItem> eventItems) {
-        eventItems.forEach(item -> server.getEventBus().unregister(item));
+        server.getEventRouter().unregister(eventItems);
     }
 
     @Override
@@ -250,7 +296,7 @@ public class OpcUaNamespace implements UaNamespace {
                              ExpandedNodeId targetNodeId,
                              NodeClass targetNodeClass) throws UaException {
 
-        UaNode node = nodes.get(sourceNodeId);
+        UaNode node = node(sourceNodeId);
 
         if (node != null) {
             Reference reference = new Reference(
@@ -269,29 +315,65 @@ public class OpcUaNamespace implements UaNamespace {
 
     @Override
     public Optional<MethodInvocationHandler> getInvocationHandler(NodeId methodId) {
-        return Optional.ofNullable(nodes.get(methodId))
+        return Optional.ofNullable(node(methodId))
                 .filter(n -> n instanceof UaMethodNode)
                 .flatMap(n -> ((UaMethodNode) n).getInvocationHandler());
     }
 
     public UaObjectNode getObjectsFolder() {
-        return (UaObjectNode) nodes.get(Identifiers.ObjectsFolder);
+        return (UaObjectNode) node(Identifiers.ObjectsFolder);
     }
 
     public ServerNode getServerNode() {
-        return (ServerNode) nodes.get(Identifiers.Server);
+        return (ServerNode) node(Identifiers.Server);
+    }
+
+    /**
+     * @return the node identified by {@code nodeId}, building it first if it hasn't been yet, or {@code null} if there
+     * is no such node.
+     */
+    private UaNode node(NodeId nodeId) {
+        UaNode node = nodes.get(nodeId);
+
+        if (node == null && lazy) {
+            synchronized (buildLock) {
+                NodeBuilder builder = unbuilt.remove(nodeId);
+
+                if (builder != null) {
+                    try {
+                        builder.build();
+                    } catch (Exception e) {
+                        logger.error("Error building node {}.", nodeId, e);
+                    }
+                }
+
+                node = nodes.get(nodeId);
+            }
+        }
+
+        return node;
     }
 
     private void loadNodes() {
         try {
             long startTime = System.nanoTime();
 
-            new UaNodeLoader(this);
+            UaNodeLoader loader = new UaNodeLoader(this);
+
+            if (lazy) {
+                unbuilt.putAll(loader.indexNodes());
+            } else {
+                loader.loadNodes();
+            }
 
             long endTime = System.nanoTime();
             long deltaMs = TimeUnit.MILLISECONDS.convert(endTime - startTime, TimeUnit.NANOSECONDS);
 
-            logger.info("Loaded {} nodes in {}ms.", nodes.size(), deltaMs);
+            if (lazy) {
+                logger.info("Indexed {} nodes in {}ms.", unbuilt.size(), deltaMs);
+            } else {
+                logger.info("Loaded {} nodes in {}ms.", nodes.size(), deltaMs);
+            }
         } catch (Exception e) {
             logger.error("Error loading nodes.", e);
         }
@@ -300,7 +382,7 @@ public class OpcUaNamespace implements UaNamespace {
     private void configureServerObject() {
         OpcUaServerConfigLimits limits = server.getConfig().getLimits();
 
-        ServerNode serverNode = (ServerNode) nodes.get(Identifiers.Server);
+        ServerNode serverNode = (ServerNode) node(Identifiers.Server);
 
         replaceServerArrayNode();
         replaceNamespaceArrayNode();
@@ -317,7 +399,7 @@ public class OpcUaNamespace implements UaNamespace {
         serverStatus.setState(ServerState.Running);
         serverStatus.setStartTime(DateTime.now());
 
-        UaVariableNode currentTime = (UaVariableNode) nodes.get(Identifiers.Server_ServerStatus_CurrentTime);
+        UaVariableNode currentTime = (UaVariableNode) node(Identifiers.Server_ServerStatus_CurrentTime);
         DerivedVariableNode derivedCurrentTime = new DerivedVariableNode(this, currentTime) {
             @Override
             public DataValue getValue() {
@@ -352,7 +434,7 @@ public class OpcUaNamespace implements UaNamespace {
         serverNode.getServerRedundancy().setRedundancySupport(RedundancySupport.None);
 
         try {
-            UaMethodNode getMonitoredItems = (UaMethodNode) nodes.get(Identifiers.Server_GetMonitoredItems);
+            UaMethodNode getMonitoredItems = (UaMethodNode) node(Identifiers.Server_GetMonitoredItems);
 
             AnnotationBasedInvocationHandler invocationHandler =
                     AnnotationBasedInvocationHandler.fromAnnotatedObject(this, new GetMonitoredItems(server));
@@ -366,7 +448,7 @@ public class OpcUaNamespace implements UaNamespace {
     }
 
     private void replaceServerArrayNode() {
-        UaVariableNode originalNode = (UaVariableNode) nodes.get(Identifiers.Server_ServerArray);
+        UaVariableNode originalNode = (UaVariableNode) node(Identifiers.Server_ServerArray);
 
         UaVariableNode derived = new DerivedVariableNode(this, originalNode) {
             @Override
@@ -379,7 +461,7 @@ public class OpcUaNamespace implements UaNamespace {
     }
 
     private void replaceNamespaceArrayNode() {
-        UaVariableNode originalNode = (UaVariableNode) nodes.get(Identifiers.Server_NamespaceArray);
+        UaVariableNode originalNode = (UaVariableNode) node(Identifiers.Server_NamespaceArray);
 
         UaVariableNode derived = new DerivedVariableNode(this, originalNode) {
             @Override
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.namespaces.loader;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Maps;
+import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.stack.core.serialization.xml.XmlDecoder;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+
+/**
+ * The immutable parts of the standard address space, shared by every server in the JVM.
+ * <p>
+ * {@link NodeTable} gets its identifiers, references and decoded variable values here. Each distinct NodeId string is
+ * parsed once, each distinct value is decoded from its XML once, and equal references are a single instance, no
+ * matter how many nodes or {@code OpcUaServer}s use them. The nodes themselves, which have mutable state and belong
+ * to a namespace, are still built per server.
+ */
+public final class LoaderCache {
+
+    private static final Map<String, NodeId> NODE_IDS = Maps.newConcurrentMap();
+    private static final Map<String, ExpandedNodeId> EXPANDED_NODE_IDS = Maps.newConcurrentMap();
+    private static final Map<String, Variant> VALUES = Maps.newConcurrentMap();
+
+    /**
+     * Weak, so references no server holds anymore can be collected.
+     */
+    private static final Interner<Reference> REFERENCES = Interners.newWeakInterner();
+
+    private LoaderCache() {}
+
+    public static NodeId nodeId(String id) {
+        NodeId nodeId = NODE_IDS.get(id);
+
+        if (nodeId == null) {
+            nodeId = NodeId.parse(id);
+            NodeId previous = NODE_IDS.putIfAbsent(id, nodeId);
+            if (previous != null) nodeId = previous;
+        }
+
+        return nodeId;
+    }
+
+    public static ExpandedNodeId expandedNodeId(String id) {
+        ExpandedNodeId nodeId = EXPANDED_NODE_IDS.get(id);
+
+        if (nodeId == null) {
+            nodeId = ExpandedNodeId.parse(id);
+            ExpandedNodeId previous = EXPANDED_NODE_IDS.putIfAbsent(id, nodeId);
+            if (previous != null) nodeId = previous;
+        }
+
+        return nodeId;
+    }
+
+    public static Reference reference(NodeId sourceNodeId,
+                                      NodeId referenceTypeId,
+                                      ExpandedNodeId targetNodeId,
+                                      NodeClass targetNodeClass,
+                                      boolean forward) {
+
+        return REFERENCES.intern(new Reference(sourceNodeId, referenceTypeId, targetNodeId, targetNodeClass, forward));
+    }
+
+    /**
+     * @param xml a value in the XML encoding used by UANodeSet files.
+     * @return the decoded value. The {@link Variant} and its value are shared and must not be modified.
+     */
+    public static Variant variant(String xml)
+            throws Exception {
+
+        Variant variant = VALUES.get(xml);
+
+        if (variant == null) {
+            XmlDecoder decoder = new XmlDecoder(new StringReader(xml));
+            variant = new Variant(decoder.decodeVariantValue());
+            Variant previous = VALUES.putIfAbsent(xml, variant);
+            if (previous != null) variant = previous;
+        }
+
+        return variant;
+    }
+
+}
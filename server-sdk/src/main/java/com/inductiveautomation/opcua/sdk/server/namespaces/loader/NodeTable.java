@@ -0,0 +1,519 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.namespaces.loader;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.sdk.server.api.UaNamespace;
+import com.inductiveautomation.opcua.sdk.server.model.UaDataTypeNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaMethodNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaObjectNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaObjectTypeNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaReferenceTypeNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaVariableTypeNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.AddressSpaceFileNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.AggregateConfigurationNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.AggregateFunctionNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.BaseObjectNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.DataTypeEncodingNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.DataTypeSystemNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.ExclusiveLimitStateMachineNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.FolderNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.HistoricalDataConfigurationNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.HistoryServerCapabilitiesNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.LockNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.ModellingRuleNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.NamespaceMetadataNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.NamespacesNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.OperationLimitsNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.ServerCapabilitiesNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.ServerDiagnosticsNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.ServerNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.ServerRedundancyNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.SessionDiagnosticsObjectNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.SessionsDiagnosticsSummaryNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.ShelvedStateMachineNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.StateNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.TransitionNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.TrustListNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.VendorServerInfoNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.BaseDataVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.BuildInfoNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.ConditionVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.DataTypeDescriptionNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.DataTypeDictionaryNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.FiniteStateVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.FiniteTransitionVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.ProgramDiagnosticNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.PropertyNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.SamplingIntervalDiagnosticsArrayNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.ServerDiagnosticsSummaryNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.ServerStatusNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.ServerVendorCapabilityNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.SessionDiagnosticsArrayNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.SessionDiagnosticsVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.SessionSecurityDiagnosticsArrayNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.SessionSecurityDiagnosticsNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.StateVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.SubscriptionDiagnosticsArrayNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.TransitionVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.TwoStateVariableNode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+
+import static com.inductiveautomation.opcua.sdk.server.namespaces.loader.LoaderCache.expandedNodeId;
+import static com.inductiveautomation.opcua.sdk.server.namespaces.loader.LoaderCache.nodeId;
+import static com.inductiveautomation.opcua.sdk.server.namespaces.loader.LoaderCache.reference;
+import static com.inductiveautomation.opcua.sdk.server.namespaces.loader.LoaderCache.variant;
+
+/**
+ * The nodes of the standard address space, read from a table generated from the UANodeSet.
+ * <p>
+ * The table is written from {@code Opc.Ua.NodeSet2.xml} by {@code NodeTableGenerator}, found alongside this class in
+ * the test sources; re-run it with {@code mvn -P node-table process-test-classes} whenever the NodeSet changes.
+ * {@code NodeTableTest} fails if the committed table no longer matches what the generator writes.
+ * <p>
+ * The table is a big-endian {@link DataInputStream} stream: the magic number {@code 0x55414E54} ("UANT") and an
+ * unsigned short version, a string table (an unsigned short count followed by that many
+ * {@link DataInputStream#readUTF() UTF} strings), then an unsigned short node count followed by that many rows.
+ * Strings elsewhere are unsigned short indexes into the string table, an optional value is a boolean followed by the
+ * value if it's {@code true}, and a row is:
+ * <ul>
+ * <li>the node's {@link NodeClass} value as an unsigned byte, and the simple name of the class to instantiate;</li>
+ * <li>NodeId, BrowseName (unsigned short namespace index, name), DisplayName (locale, text), optional Description,
+ * optional WriteMask and optional UserWriteMask (ints);</li>
+ * <li>the attributes of the node class, in the order its constructor takes them; Values are in the XML encoding and
+ * ArrayDimensions are an unsigned short count followed by that many ints;</li>
+ * <li>an unsigned short reference count followed by that many references: ReferenceTypeId, target ExpandedNodeId,
+ * target NodeClass value as an unsigned byte, and a boolean that's {@code true} for forward references.</li>
+ * </ul>
+ * Reading the table only parses identifiers and attributes; nodes aren't built, and Values aren't decoded, until
+ * {@link Row#build(UaNamespace)} is called.
+ */
+final class NodeTable {
+
+    static final String RESOURCE = "/Opc.Ua.NodeSet2.bin";
+
+    static final int MAGIC = 0x55414E54;
+    static final int VERSION = 1;
+
+    private static final Map<Integer, NodeClass> NODE_CLASSES = Maps.newHashMap();
+
+    static {
+        for (NodeClass nodeClass : NodeClass.values()) {
+            NODE_CLASSES.put(nodeClass.getValue(), nodeClass);
+        }
+    }
+
+    private static final Map<String, ObjectNodeFactory> OBJECT_NODES =
+            ImmutableMap.<String, ObjectNodeFactory>builder()
+                    .put("AddressSpaceFileNode", AddressSpaceFileNode::new)
+                    .put("AggregateConfigurationNode", AggregateConfigurationNode::new)
+                    .put("AggregateFunctionNode", AggregateFunctionNode::new)
+                    .put("BaseObjectNode", BaseObjectNode::new)
+                    .put("DataTypeEncodingNode", DataTypeEncodingNode::new)
+                    .put("DataTypeSystemNode", DataTypeSystemNode::new)
+                    .put("ExclusiveLimitStateMachineNode", ExclusiveLimitStateMachineNode::new)
+                    .put("FolderNode", FolderNode::new)
+                    .put("HistoricalDataConfigurationNode", HistoricalDataConfigurationNode::new)
+                    .put("HistoryServerCapabilitiesNode", HistoryServerCapabilitiesNode::new)
+                    .put("LockNode", LockNode::new)
+                    .put("ModellingRuleNode", ModellingRuleNode::new)
+                    .put("NamespaceMetadataNode", NamespaceMetadataNode::new)
+                    .put("NamespacesNode", NamespacesNode::new)
+                    .put("OperationLimitsNode", OperationLimitsNode::new)
+                    .put("ServerCapabilitiesNode", ServerCapabilitiesNode::new)
+                    .put("ServerDiagnosticsNode", ServerDiagnosticsNode::new)
+                    .put("ServerNode", ServerNode::new)
+                    .put("ServerRedundancyNode", ServerRedundancyNode::new)
+                    .put("SessionDiagnosticsObjectNode", SessionDiagnosticsObjectNode::new)
+                    .put("SessionsDiagnosticsSummaryNode", SessionsDiagnosticsSummaryNode::new)
+                    .put("ShelvedStateMachineNode", ShelvedStateMachineNode::new)
+                    .put("StateNode", StateNode::new)
+                    .put("TransitionNode", TransitionNode::new)
+                    .put("TrustListNode", TrustListNode::new)
+                    .put("VendorServerInfoNode", VendorServerInfoNode::new)
+                    .build();
+
+    private static final Map<String, VariableNodeFactory> VARIABLE_NODES =
+            ImmutableMap.<String, VariableNodeFactory>builder()
+                    .put("BaseDataVariableNode", BaseDataVariableNode::new)
+                    .put("BuildInfoNode", BuildInfoNode::new)
+                    .put("ConditionVariableNode", ConditionVariableNode::new)
+                    .put("DataTypeDescriptionNode", DataTypeDescriptionNode::new)
+                    .put("DataTypeDictionaryNode", DataTypeDictionaryNode::new)
+                    .put("FiniteStateVariableNode", FiniteStateVariableNode::new)
+                    .put("FiniteTransitionVariableNode", FiniteTransitionVariableNode::new)
+                    .put("ProgramDiagnosticNode", ProgramDiagnosticNode::new)
+                    .put("PropertyNode", PropertyNode::new)
+                    .put("SamplingIntervalDiagnosticsArrayNode", SamplingIntervalDiagnosticsArrayNode::new)
+                    .put("ServerDiagnosticsSummaryNode", ServerDiagnosticsSummaryNode::new)
+                    .put("ServerStatusNode", ServerStatusNode::new)
+                    .put("ServerVendorCapabilityNode", ServerVendorCapabilityNode::new)
+                    .put("SessionDiagnosticsArrayNode", SessionDiagnosticsArrayNode::new)
+                    .put("SessionDiagnosticsVariableNode", SessionDiagnosticsVariableNode::new)
+                    .put("SessionSecurityDiagnosticsArrayNode", SessionSecurityDiagnosticsArrayNode::new)
+                    .put("SessionSecurityDiagnosticsNode", SessionSecurityDiagnosticsNode::new)
+                    .put("StateVariableNode", StateVariableNode::new)
+                    .put("SubscriptionDiagnosticsArrayNode", SubscriptionDiagnosticsArrayNode::new)
+                    .put("TransitionVariableNode", TransitionVariableNode::new)
+                    .put("TwoStateVariableNode", TwoStateVariableNode::new)
+                    .build();
+
+    private NodeTable() {}
+
+    /**
+     * @return a {@link Row} for every node in the table, in table order.
+     * @throws IOException if the table is missing or malformed.
+     */
+    static List<Row> read()
+            throws IOException {
+
+        try (InputStream stream = NodeTable.class.getResourceAsStream(RESOURCE)) {
+            if (stream == null) throw new FileNotFoundException(RESOURCE);
+
+            return new TableReader(new DataInputStream(new BufferedInputStream(stream))).readRows();
+        }
+    }
+
+    /**
+     * A node as it appears in the table.
+     */
+    static final class Row {
+
+        private final NodeId nodeId;
+        private final NodeFactory factory;
+        private final Optional<String> value;
+        private final List<Reference> references;
+
+        private Row(NodeId nodeId, NodeFactory factory, Optional<String> value, List<Reference> references) {
+            this.nodeId = nodeId;
+            this.factory = factory;
+            this.value = value;
+            this.references = references;
+        }
+
+        NodeId getNodeId() {
+            return nodeId;
+        }
+
+        /**
+         * @return the node's Value in the XML encoding, if it has one.
+         */
+        Optional<String> getValue() {
+            return value;
+        }
+
+        List<Reference> getReferences() {
+            return references;
+        }
+
+        /**
+         * @return a new node with this row's attributes, but none of its references or its value.
+         */
+        UaNode createNode(UaNamespace namespace)
+                throws Exception {
+
+            return factory.create(namespace);
+        }
+
+        /**
+         * Build the node, with its references and value, and add it to {@code namespace}.
+         */
+        void build(UaNamespace namespace)
+                throws Exception {
+
+            UaNode node = createNode(namespace);
+
+            node.addReferences(references);
+
+            if (value.isPresent()) {
+                ((UaVariableNode) node).setValue(new DataValue(variant(value.get())));
+            }
+
+            namespace.addNode(node);
+        }
+
+    }
+
+    private static final class TableReader {
+
+        private final DataInputStream in;
+        private final String[] strings;
+
+        private TableReader(DataInputStream in)
+                throws IOException {
+
+            this.in = in;
+
+            if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION) {
+                throw new IOException("unrecognized node table: " + RESOURCE);
+            }
+
+            strings = new String[in.readUnsignedShort()];
+
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+        }
+
+        private List<Row> readRows()
+                throws IOException {
+
+            int count = in.readUnsignedShort();
+            List<Row> rows = Lists.newArrayListWithCapacity(count);
+
+            for (int i = 0; i < count; i++) {
+                rows.add(readRow());
+            }
+
+            return rows;
+        }
+
+        private Row readRow()
+                throws IOException {
+
+            NodeClass nodeClass = readNodeClass();
+            String type = readString();
+
+            NodeId nodeId = readNodeId();
+            QualifiedName browseName = new QualifiedName(in.readUnsignedShort(), readString());
+            LocalizedText displayName = readLocalizedText();
+            Optional<LocalizedText> description = in.readBoolean() ?
+                    Optional.of(readLocalizedText()) : Optional.empty();
+            Optional<UInteger> writeMask = in.readBoolean() ? Optional.of(readUInteger()) : Optional.empty();
+            Optional<UInteger> userWriteMask = in.readBoolean() ? Optional.of(readUInteger()) : Optional.empty();
+
+            NodeFactory factory;
+            Optional<String> value = Optional.empty();
+
+            switch (nodeClass) {
+                case Object: {
+                    ObjectNodeFactory objectFactory = OBJECT_NODES.get(type);
+                    if (objectFactory == null) throw new IOException("unknown object node class: " + type);
+
+                    UByte eventNotifier = UByte.valueOf(in.readUnsignedByte());
+
+                    factory = namespace -> objectFactory.create(namespace, nodeId, browseName, displayName,
+                            description, writeMask, userWriteMask, eventNotifier);
+                    break;
+                }
+
+                case Variable: {
+                    VariableNodeFactory variableFactory = VARIABLE_NODES.get(type);
+                    if (variableFactory == null) throw new IOException("unknown variable node class: " + type);
+
+                    value = in.readBoolean() ? Optional.of(readString()) : Optional.empty();
+                    NodeId dataType = readNodeId();
+                    int valueRank = in.readInt();
+                    Optional<UInteger[]> arrayDimensions = in.readBoolean() ?
+                            Optional.of(readArrayDimensions()) : Optional.empty();
+                    UByte accessLevel = UByte.valueOf(in.readUnsignedByte());
+                    UByte userAccessLevel = UByte.valueOf(in.readUnsignedByte());
+                    Optional<Double> minimumSamplingInterval = in.readBoolean() ?
+                            Optional.of(in.readDouble()) : Optional.empty();
+                    boolean historizing = in.readBoolean();
+
+                    factory = namespace -> variableFactory.create(namespace, nodeId, browseName, displayName,
+                            description, writeMask, userWriteMask, new DataValue(Variant.NULL_VALUE), dataType,
+                            valueRank, arrayDimensions, accessLevel, userAccessLevel,
+                            minimumSamplingInterval, historizing);
+                    break;
+                }
+
+                case Method: {
+                    boolean executable = in.readBoolean();
+                    boolean userExecutable = in.readBoolean();
+
+                    factory = namespace -> new UaMethodNode(namespace, nodeId, browseName, displayName,
+                            description, writeMask, userWriteMask, executable, userExecutable);
+                    break;
+                }
+
+                case ObjectType: {
+                    boolean isAbstract = in.readBoolean();
+
+                    factory = namespace -> new UaObjectTypeNode(namespace, nodeId, browseName, displayName,
+                            description, writeMask, userWriteMask, isAbstract);
+                    break;
+                }
+
+                case VariableType: {
+                    Optional<String> typeValue = in.readBoolean() ? Optional.of(readString()) : Optional.empty();
+                    NodeId dataType = readNodeId();
+                    int valueRank = in.readInt();
+                    Optional<UInteger[]> arrayDimensions = in.readBoolean() ?
+                            Optional.of(readArrayDimensions()) : Optional.empty();
+                    boolean isAbstract = in.readBoolean();
+
+                    factory = namespace -> {
+                        Optional<DataValue> dataValue = typeValue.isPresent() ?
+                                Optional.of(new DataValue(variant(typeValue.get()))) : Optional.empty();
+
+                        return new UaVariableTypeNode(namespace, nodeId, browseName, displayName,
+                                description, writeMask, userWriteMask, dataValue, dataType, valueRank,
+                                arrayDimensions, isAbstract);
+                    };
+                    break;
+                }
+
+                case ReferenceType: {
+                    boolean isAbstract = in.readBoolean();
+                    boolean symmetric = in.readBoolean();
+                    Optional<LocalizedText> inverseName = in.readBoolean() ?
+                            Optional.of(readLocalizedText()) : Optional.empty();
+
+                    factory = namespace -> new UaReferenceTypeNode(namespace, nodeId, browseName, displayName,
+                            description, writeMask, userWriteMask, isAbstract, symmetric, inverseName);
+                    break;
+                }
+
+                case DataType: {
+                    boolean isAbstract = in.readBoolean();
+
+                    factory = namespace -> new UaDataTypeNode(namespace, nodeId, browseName, displayName,
+                            description, writeMask, userWriteMask, isAbstract);
+                    break;
+                }
+
+                default:
+                    throw new IOException("unsupported node class: " + nodeClass);
+            }
+
+            int referenceCount = in.readUnsignedShort();
+            List<Reference> references = Lists.newArrayListWithCapacity(referenceCount);
+
+            for (int i = 0; i < referenceCount; i++) {
+                references.add(reference(
+                        nodeId,
+                        readNodeId(),
+                        expandedNodeId(readString()),
+                        readNodeClass(),
+                        in.readBoolean()
+                ));
+            }
+
+            return new Row(nodeId, factory, value, references);
+        }
+
+        private String readString()
+                throws IOException {
+
+            return strings[in.readUnsignedShort()];
+        }
+
+        private NodeId readNodeId()
+                throws IOException {
+
+            return nodeId(readString());
+        }
+
+        private NodeClass readNodeClass()
+                throws IOException {
+
+            int value = in.readUnsignedByte();
+            NodeClass nodeClass = NODE_CLASSES.get(value);
+            if (nodeClass == null) throw new IOException("unknown node class: " + value);
+
+            return nodeClass;
+        }
+
+        private LocalizedText readLocalizedText()
+                throws IOException {
+
+            String locale = readString();
+            String text = readString();
+
+            return new LocalizedText(locale, text);
+        }
+
+        private UInteger readUInteger()
+                throws IOException {
+
+            return UInteger.valueOf(in.readInt() & 0xFFFFFFFFL);
+        }
+
+        private UInteger[] readArrayDimensions()
+                throws IOException {
+
+            UInteger[] dimensions = new UInteger[in.readUnsignedShort()];
+
+            for (int i = 0; i < dimensions.length; i++) {
+                dimensions[i] = readUInteger();
+            }
+
+            return dimensions;
+        }
+
+    }
+
+    @FunctionalInterface
+    private static interface NodeFactory {
+        UaNode create(UaNamespace namespace) throws Exception;
+    }
+
+    @FunctionalInterface
+    private static interface ObjectNodeFactory {
+        UaObjectNode create(UaNamespace namespace,
+                            NodeId nodeId,
+                            QualifiedName browseName,
+                            LocalizedText displayName,
+                            Optional<LocalizedText> description,
+                            Optional<UInteger> writeMask,
+                            Optional<UInteger> userWriteMask,
+                            UByte eventNotifier);
+    }
+
+    @FunctionalInterface
+    private static interface VariableNodeFactory {
+        UaVariableNode create(UaNamespace namespace,
+                              NodeId nodeId,
+                              QualifiedName browseName,
+                              LocalizedText displayName,
+                              Optional<LocalizedText> description,
+                              Optional<UInteger> writeMask,
+                              Optional<UInteger> userWriteMask,
+                              DataValue value,
+                              NodeId dataType,
+                              Integer valueRank,
+                              Optional<UInteger[]> arrayDimensions,
+                              UByte accessLevel,
+                              UByte userAccessLevel,
+                              Optional<Double> minimumSamplingInterval,
+                              boolean historizing);
+    }
+
+}
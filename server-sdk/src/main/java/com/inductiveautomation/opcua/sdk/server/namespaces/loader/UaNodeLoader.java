@@ -1,22 +1,113 @@
 package com.inductiveautomation.opcua.sdk.server.namespaces.loader;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.google.common.collect.Maps;
 import com.inductiveautomation.opcua.sdk.server.api.UaNamespace;
+import com.inductiveautomation.opcua.sdk.server.namespaces.loader.NodeTable.Row;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
 
 public class UaNodeLoader {
 
     private final UaNamespace namespace;
 
-    public UaNodeLoader(UaNamespace namespace)
-            throws Exception {
+    public UaNodeLoader(UaNamespace namespace) {
         this.namespace = namespace;
-        new UaDataTypeLoader(namespace).buildNodes();
-        new UaMethodLoader(namespace).buildNodes();
-        new UaObjectLoader(namespace).buildNodes();
-        new UaObjectTypeLoader(namespace).buildNodes();
-        new UaReferenceTypeLoader(namespace).buildNodes();
-        new UaVariableLoader(namespace).buildNodes();
-        new UaVariableTypeLoader(namespace).buildNodes();
-        new UaViewLoader(namespace).buildNodes();
+    }
+
+    /**
+     * Build every node and add it to the namespace.
+     * <p>
+     * Nodes are read from the {@link NodeTable} and built in parallel on the common {@link ForkJoinPool}. Every row
+     * carries its node's references in both directions, so no linking between nodes is needed once they've all been
+     * built.
+     */
+    public void loadNodes()
+            throws Exception {
+        List<Row> rows = NodeTable.read();
+
+        try {
+            ForkJoinPool.commonPool().invoke(new BuildTask(namespace, rows, 0, rows.size()));
+        } catch (BuildException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return a {@link NodeBuilder} for every node, by {@link NodeId}. Nothing is built until a builder is run.
+     */
+    public Map<NodeId, NodeBuilder> indexNodes()
+            throws IOException {
+        List<Row> rows = NodeTable.read();
+        Map<NodeId, NodeBuilder> index = Maps.newHashMapWithExpectedSize(rows.size());
+
+        for (Row row : rows) {
+            index.put(row.getNodeId(), () -> row.build(namespace));
+        }
+
+        return index;
+    }
+
+    private static final class BuildTask extends RecursiveAction {
+
+        private static final int THRESHOLD = 64;
+
+        private final UaNamespace namespace;
+        private final List<Row> rows;
+        private final int from;
+        private final int to;
+
+        private BuildTask(UaNamespace namespace, List<Row> rows, int from, int to) {
+            this.namespace = namespace;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        rows.get(i).build(namespace);
+                    } catch (Exception e) {
+                        throw new BuildException(e);
+                    }
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+
+                invokeAll(new BuildTask(namespace, rows, from, middle), new BuildTask(namespace, rows, middle, to));
+            }
+        }
+
+    }
+
+    private static final class BuildException extends RuntimeException {
+
+        private BuildException(Exception cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized Exception getCause() {
+            return (Exception) super.getCause();
+        }
+
+    }
+
+    @FunctionalInterface
+    public static interface NodeBuilder {
+
+        /**
+         * Build the node, with its references, and add it to the namespace.
+         */
+        void build() throws Exception;
+
     }
 
 }
@@ -1,16 +0,0 @@
-package com.inductiveautomation.opcua.sdk.server.namespaces.loader;
-
-import com.inductiveautomation.opcua.sdk.server.api.UaNamespace;
-
-public class UaViewLoader {
-
-    private final UaNamespace namespace;
-
-    public UaViewLoader(UaNamespace namespace) {
-        this.namespace = namespace;
-    }
-
-    public void buildNodes() {
-    }
-
-}
@@ -109,4 +109,11 @@ public class ViewServices implements ViewServiceSet {
         service.setResponse(new UnregisterNodesResponse(service.createResponseHeader(StatusCode.GOOD)));
     }
 
+    /**
+     * Release the browse continuation points held for the session.
+     */
+    public void sessionClosed() {
+        browseHelper.sessionClosed();
+    }
+
 }
@@ -17,26 +17,25 @@
 package com.inductiveautomation.opcua.sdk.server.services.helpers;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.primitives.Ints;
-import com.inductiveautomation.opcua.sdk.core.AttributeIds;
 import com.inductiveautomation.opcua.sdk.core.Reference;
 import com.inductiveautomation.opcua.sdk.server.NamespaceManager;
 import com.inductiveautomation.opcua.sdk.server.OpcUaServer;
+import com.inductiveautomation.opcua.sdk.server.api.Namespace;
 import com.inductiveautomation.opcua.sdk.server.services.ServiceAttributes;
+import com.inductiveautomation.opcua.sdk.server.util.BrowseHeader;
 import com.inductiveautomation.opcua.sdk.server.util.PendingBrowse;
-import com.inductiveautomation.opcua.stack.core.Identifiers;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
 import com.inductiveautomation.opcua.stack.core.types.builtin.ByteString;
@@ -47,6 +46,8 @@ import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
 import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
 import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.BrowseDirection;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.BrowseResultMask;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
 import com.inductiveautomation.opcua.stack.core.types.structured.BrowseDescription;
@@ -58,10 +59,9 @@ import com.inductiveautomation.opcua.stack.core.types.structured.BrowseResult;
 import com.inductiveautomation.opcua.stack.core.types.structured.ReferenceDescription;
 import com.inductiveautomation.opcua.stack.core.types.structured.ResponseHeader;
 import com.inductiveautomation.opcua.stack.core.util.NonceUtil;
+import org.slf4j.LoggerFactory;
 
 import static com.inductiveautomation.opcua.sdk.server.util.FutureUtils.sequence;
-import static com.inductiveautomation.opcua.sdk.server.util.UaEnumUtil.browseResultMasks;
-import static com.inductiveautomation.opcua.sdk.server.util.UaEnumUtil.nodeClasses;
 
 public class BrowseHelper {
 
@@ -71,6 +71,20 @@ public class BrowseHelper {
     private static final BrowseResult NodeIdUnknownResult =
             new BrowseResult(new StatusCode(StatusCodes.Bad_NodeIdUnknown), ByteString.NULL_VALUE, new ReferenceDescription[0]);
 
+    private static final BrowseResult InternalErrorResult =
+            new BrowseResult(new StatusCode(StatusCodes.Bad_InternalError), ByteString.NULL_VALUE, new ReferenceDescription[0]);
+
+    private static final int REFERENCE_TYPE_ID = BrowseResultMask.ReferenceTypeId.getValue();
+    private static final int NODE_CLASS = BrowseResultMask.NodeClass.getValue();
+    private static final int BROWSE_NAME = BrowseResultMask.BrowseName.getValue();
+    private static final int DISPLAY_NAME = BrowseResultMask.DisplayName.getValue();
+    private static final int TYPE_DEFINITION = BrowseResultMask.TypeDefinition.getValue();
+
+    /**
+     * The result mask bits answered from a {@link BrowseHeader}.
+     */
+    private static final int HEADER_MASK = NODE_CLASS | BROWSE_NAME | DISPLAY_NAME | TYPE_DEFINITION;
+
     private final Map<ByteString, BrowseContinuationPoint> continuations = Maps.newConcurrentMap();
 
     public void browse(ServiceRequest<BrowseRequest, BrowseResponse> service) {
@@ -86,14 +100,20 @@ public class BrowseHelper {
         List<PendingBrowse> pendingBrowses = Arrays.stream(request.getNodesToBrowse())
                 .map(PendingBrowse::new).collect(Collectors.toList());
 
-        pendingBrowses.stream().forEach(pending -> {
-            Browse browse = new Browse(
-                    pending.getInput(),
-                    request.getRequestedMaxReferencesPerNode(),
-                    server,
-                    pending.getFuture());
+        /*
+         * Group PendingBrowses by namespace and browse each group in a single task.
+         */
+
+        Map<UShort, List<PendingBrowse>> byNamespace = pendingBrowses.stream()
+                .collect(Collectors.groupingBy(pending -> pending.getInput().getNodeId().getNamespaceIndex()));
+
+        byNamespace.keySet().forEach(index -> {
+            List<PendingBrowse> pending = byNamespace.get(index);
+
+            Namespace namespace = server.getNamespaceManager().getNamespace(index);
 
-            server.getExecutorService().execute(browse);
+            server.getExecutorService().execute(
+                    () -> browse(namespace, pending, request.getRequestedMaxReferencesPerNode(), server));
         });
 
         List<CompletableFuture<BrowseResult>> futures =
@@ -123,146 +143,167 @@ public class BrowseHelper {
         }
     }
 
-    private class Browse implements Runnable {
+    private void browse(Namespace namespace,
+                        List<PendingBrowse> pending,
+                        UInteger maxReferences,
+                        OpcUaServer server) {
 
-        private final BrowseDescription description;
-        private final UInteger maxReferences;
-        private final OpcUaServer server;
-        private final CompletableFuture<BrowseResult> future;
+        List<NodeId> nodeIds = Lists.newArrayListWithCapacity(pending.size());
 
-        private Browse(BrowseDescription description,
-                       UInteger maxReferences,
-                       OpcUaServer server,
-                       CompletableFuture<BrowseResult> future) {
+        for (PendingBrowse p : pending) {
+            nodeIds.add(p.getInput().getNodeId());
+        }
 
-            this.description = description;
-            this.maxReferences = maxReferences;
-            this.server = server;
-            this.future = future;
+        List<Optional<List<Reference>>> references;
+
+        try {
+            references = namespace.getReferences(nodeIds);
+        } catch (Throwable t) {
+            LoggerFactory.getLogger(getClass())
+                    .error("Uncaught Throwable getting references from namespace={}.", namespace.getNamespaceUri(), t);
+
+            pending.forEach(p -> p.getFuture().complete(InternalErrorResult));
+            return;
         }
 
-        @Override
-        public void run() {
-            NamespaceManager namespaceManager = server.getNamespaceManager();
+        for (int i = 0; i < pending.size(); i++) {
+            PendingBrowse p = pending.get(i);
 
-            Optional<List<Reference>> references = namespaceManager.getReferences(description.getNodeId());
+            Browse browse = new Browse(p.getInput(), maxReferences, server);
 
-            BrowseResult result = references.map(this::browse).orElse(NodeIdUnknownResult);
+            BrowseResult result;
 
-            future.complete(result);
+            try {
+                result = references.get(i).map(browse::browse).orElse(NodeIdUnknownResult);
+            } catch (Throwable t) {
+                LoggerFactory.getLogger(getClass()).error("Uncaught Throwable browsing nodeId={}.", nodeIds.get(i), t);
+
+                result = InternalErrorResult;
+            }
+
+            p.getFuture().complete(result);
         }
+    }
 
-        private BrowseResult browse(List<Reference> references) {
-            Stream<Reference> filtered = references.stream()
-                    .filter(this::directionFilter)
-                    .filter(this::referenceTypeFilter)
-                    .filter(this::nodeClassFilter)
-                    .distinct();
+    /**
+     * Release every continuation point; called when the session that owns this helper closes or times out.
+     */
+    public void sessionClosed() {
+        continuations.clear();
+    }
+
+    /**
+     * Remove continuation points that haven't been used within the timeout.
+     */
+    private void removeExpired(OpcUaServer server) {
+        long timeout = continuationPointTimeout(server);
+
+        continuations.values().removeIf(c -> c.isExpired(timeout));
+    }
+
+    private static long continuationPointTimeout(OpcUaServer server) {
+        double timeout = server.getConfig().getLimits().getBrowseContinuationPointTimeout();
+
+        return TimeUnit.NANOSECONDS.convert((long) timeout, TimeUnit.MILLISECONDS);
+    }
+
+    private class Browse {
+
+        private final UInteger maxReferences;
+        private final OpcUaServer server;
+
+        /*
+         * The filters and result mask of the BrowseDescription, decoded once instead of per reference.
+         */
+        private final BrowseDirection direction;
+        private final NodeId referenceTypeId;
+        private final boolean includeSubtypes;
+        private final int nodeClassMask;
+        private final int resultMask;
+
+        private Browse(BrowseDescription description, UInteger maxReferences, OpcUaServer server) {
+            this.maxReferences = maxReferences;
+            this.server = server;
 
-            List<ReferenceDescription> descriptions =
-                    filtered.map(this::referenceDescription).collect(Collectors.toList());
+            NodeId referenceTypeId = description.getReferenceTypeId();
 
+            this.direction = description.getBrowseDirection();
+            this.referenceTypeId = (referenceTypeId == null || referenceTypeId.isNull()) ? null : referenceTypeId;
+            this.includeSubtypes = description.getIncludeSubtypes();
+            this.nodeClassMask = description.getNodeClassMask().intValue();
+            this.resultMask = description.getResultMask().intValue();
+        }
 
+        private BrowseResult browse(List<Reference> references) {
             int max = maxReferences.longValue() == 0 ?
                     Integer.MAX_VALUE :
                     Ints.saturatedCast(maxReferences.longValue());
 
-            return browseResult(descriptions, max);
-        }
+            BrowseContinuationPoint c = new BrowseContinuationPoint(this, references, max);
+
+            List<ReferenceDescription> page = c.nextPage();
+            ReferenceDescription[] descriptions = page.toArray(new ReferenceDescription[page.size()]);
 
-        private BrowseResult browseResult(List<ReferenceDescription> references, int max) {
-            if (references.size() > max) {
-                if (continuations.size() >
+            if (c.hasNext()) {
+                removeExpired(server);
+
+                if (continuations.size() >=
                         server.getConfig().getLimits().getMaxBrowseContinuationPoints().intValue()) {
 
                     return new BrowseResult(Bad_NoContinuationPoints, null, new ReferenceDescription[0]);
-                } else {
-                    List<ReferenceDescription> subList = references.subList(0, max);
-                    List<ReferenceDescription> current = Lists.newArrayList(subList);
-                    subList.clear();
+                }
 
-                    BrowseContinuationPoint c = new BrowseContinuationPoint(references, max);
-                    continuations.put(c.identifier, c);
+                continuations.put(c.identifier, c);
 
-                    return new BrowseResult(StatusCode.GOOD, c.identifier, current.toArray(new ReferenceDescription[current.size()]));
-                }
+                return new BrowseResult(StatusCode.GOOD, c.identifier, descriptions);
             } else {
-                return new BrowseResult(StatusCode.GOOD, null, references.toArray(new ReferenceDescription[references.size()]));
+                return new BrowseResult(StatusCode.GOOD, null, descriptions);
             }
         }
 
-        private boolean directionFilter(Reference reference) {
-            switch (description.getBrowseDirection()) {
-                case Forward:
-                    return reference.isForward();
-                case Inverse:
-                    return reference.isInverse();
-                case Both:
-                default:
-                    return true;
-            }
-        }
+        private boolean matches(Reference reference) {
+            if (direction == BrowseDirection.Forward && !reference.isForward()) return false;
+            if (direction == BrowseDirection.Inverse && !reference.isInverse()) return false;
 
-        private boolean referenceTypeFilter(Reference reference) {
-            NodeId referenceTypeId = description.getReferenceTypeId();
+            if (nodeClassMask != 0) {
+                int nodeClass = reference.getTargetNodeClass().getValue();
 
-            boolean includeAny = referenceTypeId == null || referenceTypeId.isNull();
-            boolean includeSubtypes = description.getIncludeSubtypes();
+                if ((nodeClassMask & nodeClass) != nodeClass) return false;
+            }
 
-            return includeAny || reference.getReferenceTypeId().equals(referenceTypeId) ||
+            return referenceTypeId == null || reference.getReferenceTypeId().equals(referenceTypeId) ||
                     (includeSubtypes && reference.subtypeOf(referenceTypeId, server.getNamespaceManager()));
         }
 
-        private boolean nodeClassFilter(Reference reference) {
-            long mask = description.getNodeClassMask().longValue();
-
-            EnumSet<NodeClass> nodeClasses = (mask == 0L) ?
-                    EnumSet.allOf(NodeClass.class) : nodeClasses(mask);
-
-            return nodeClasses.contains(reference.getTargetNodeClass());
-        }
-
         private ReferenceDescription referenceDescription(Reference reference) {
-            NamespaceManager namespaceManager = server.getNamespaceManager();
-
-            EnumSet<BrowseResultMask> resultMaskSet = browseResultMasks(description.getResultMask().longValue());
-
             ExpandedNodeId targetNodeId = reference.getTargetNodeId();
 
-            Optional<NodeId> referenceTypeId = resultMaskSet.contains(BrowseResultMask.ReferenceTypeId) ?
-                    Optional.of(reference.getReferenceTypeId()) : Optional.empty();
-
-            Optional<QualifiedName> browseName = resultMaskSet.contains(BrowseResultMask.BrowseName) ?
-                    namespaceManager.getAttribute(targetNodeId, AttributeIds.BrowseName) : Optional.empty();
+            BrowseHeader h = (resultMask & HEADER_MASK) != 0 ?
+                    server.getNamespaceManager().getBrowseHeader(targetNodeId).orElse(null) : null;
 
-            Optional<LocalizedText> displayName = resultMaskSet.contains(BrowseResultMask.DisplayName) ?
-                    namespaceManager.getAttribute(targetNodeId, AttributeIds.DisplayName) : Optional.empty();
+            NodeId referenceTypeId = (resultMask & REFERENCE_TYPE_ID) != 0 ?
+                    reference.getReferenceTypeId() : NodeId.NULL_VALUE;
 
-            NodeClass nodeClass = resultMaskSet.contains(BrowseResultMask.NodeClass) ?
-                    namespaceManager.<NodeClass>getAttribute(targetNodeId, AttributeIds.NodeClass)
-                            .orElse(reference.getTargetNodeClass()) : NodeClass.Unspecified;
+            QualifiedName browseName = (resultMask & BROWSE_NAME) != 0 && h != null ?
+                    h.getBrowseName() : null;
 
-            Optional<ExpandedNodeId> typeDefinition = Optional.empty();
+            LocalizedText displayName = (resultMask & DISPLAY_NAME) != 0 && h != null ?
+                    h.getDisplayName() : null;
 
-            if (resultMaskSet.contains(BrowseResultMask.TypeDefinition)) {
-                Optional<List<Reference>> references = namespaceManager.getReferences(targetNodeId);
+            NodeClass nodeClass = (resultMask & NODE_CLASS) != 0 ?
+                    (h != null ? h.getNodeClass() : reference.getTargetNodeClass()) : NodeClass.Unspecified;
 
-                Optional<Reference> typeReference = references.map(Collection::stream)
-                        .orElse(Stream.empty())
-                        .filter(r -> r.getReferenceTypeId().equals(Identifiers.HasTypeDefinition))
-                        .findFirst();
-
-                typeDefinition = typeReference.map(Reference::getTargetNodeId);
-            }
+            ExpandedNodeId typeDefinition = (resultMask & TYPE_DEFINITION) != 0 && h != null ?
+                    h.getTypeDefinition() : null;
 
             return new ReferenceDescription(
-                    referenceTypeId.orElse(NodeId.NULL_VALUE),
+                    referenceTypeId,
                     reference.isForward(),
                     targetNodeId,
-                    browseName.orElse(QualifiedName.NULL_VALUE),
-                    displayName.orElse(LocalizedText.NULL_VALUE),
-                    nodeClass,
-                    typeDefinition.orElse(ExpandedNodeId.NULL_VALUE));
+                    browseName != null ? browseName : QualifiedName.NULL_VALUE,
+                    displayName != null ? displayName : LocalizedText.NULL_VALUE,
+                    nodeClass != null ? nodeClass : reference.getTargetNodeClass(),
+                    typeDefinition != null ? typeDefinition : ExpandedNodeId.NULL_VALUE);
         }
 
     }
@@ -284,11 +325,13 @@ public class BrowseHelper {
             ByteString[] cs = request.getContinuationPoints() != null ?
                     request.getContinuationPoints() : new ByteString[0];
 
+            long timeout = continuationPointTimeout(service.attr(ServiceAttributes.ServerKey).get());
+
             for (ByteString bs : cs) {
                 if (request.getReleaseContinuationPoints()) {
                     results.add(release(bs));
                 } else {
-                    results.add(references(bs));
+                    results.add(references(bs, timeout));
                 }
             }
 
@@ -307,56 +350,86 @@ public class BrowseHelper {
                     new BrowseResult(Bad_ContinuationPointInvalid, null, null);
         }
 
-        private BrowseResult references(ByteString bs) {
+        private BrowseResult references(ByteString bs, long timeout) {
+            // Removed while in use, so the same continuation point can't be consumed concurrently.
             BrowseContinuationPoint c = continuations.remove(bs);
 
-            if (c != null) {
-                int max = c.max;
-                List<ReferenceDescription> references = c.references;
+            if (c == null || c.isExpired(timeout)) {
+                return new BrowseResult(Bad_ContinuationPointInvalid, null, null);
+            }
 
-                if (references.size() > max) {
-                    List<ReferenceDescription> subList = references.subList(0, max);
-                    List<ReferenceDescription> current = Lists.newArrayList(subList);
-                    subList.clear();
+            List<ReferenceDescription> page = c.nextPage();
+            ReferenceDescription[] descriptions = page.toArray(new ReferenceDescription[page.size()]);
 
-                    continuations.put(c.identifier, c);
+            if (c.hasNext()) {
+                continuations.put(c.identifier, c);
 
-                    return new BrowseResult(
-                            StatusCode.GOOD,
-                            c.identifier,
-                            current.toArray(new ReferenceDescription[current.size()])
-                    );
-                } else {
-                    return new BrowseResult(
-                            StatusCode.GOOD,
-                            null,
-                            references.toArray(new ReferenceDescription[references.size()])
-                    );
-                }
+                return new BrowseResult(StatusCode.GOOD, c.identifier, descriptions);
             } else {
-                return new BrowseResult(Bad_ContinuationPointInvalid, null, null);
+                return new BrowseResult(StatusCode.GOOD, null, descriptions);
             }
         }
 
     }
 
-    public static class BrowseContinuationPoint {
-        private final List<ReferenceDescription> references;
+    /**
+     * A cursor into the references of the node being browsed.
+     * <p>
+     * Holds the reference list the browse started with and the position of the next reference to return;
+     * {@link ReferenceDescription}s are only built for the references on the page being returned. References already
+     * returned are remembered across pages so that a duplicate is never returned twice.
+     */
+    private static final class BrowseContinuationPoint {
+
+        private final ByteString identifier = NonceUtil.generateNonce(16);
+
+        private final Browse browse;
+        private final List<Reference> references;
         private final int max;
-        private final ByteString identifier;
+        private final Set<Reference> seen = Sets.newHashSet();
 
-        public BrowseContinuationPoint(List<ReferenceDescription> references, int max) {
-            this(references, max, generateId());
-        }
+        private int position = 0;
+        private volatile long lastAccess = System.nanoTime();
 
-        public BrowseContinuationPoint(List<ReferenceDescription> references, int max, ByteString identifier) {
-            this.references = Collections.synchronizedList(references);
+        private BrowseContinuationPoint(Browse browse, List<Reference> references, int max) {
+            this.browse = browse;
+            this.references = references;
             this.max = max;
-            this.identifier = identifier;
         }
 
-        private static ByteString generateId() {
-            return NonceUtil.generateNonce(16);
+        /**
+         * @return up to {@code max} descriptions, starting at the current position. Afterwards, the position is at the
+         * next matching reference, if there is one.
+         */
+        private synchronized List<ReferenceDescription> nextPage() {
+            lastAccess = System.nanoTime();
+
+            List<ReferenceDescription> page = Lists.newArrayList();
+
+            while (position < references.size()) {
+                Reference reference = references.get(position);
+
+                if (browse.matches(reference) && !seen.contains(reference)) {
+                    if (page.size() == max) break;
+
+                    seen.add(reference);
+                    page.add(browse.referenceDescription(reference));
+                }
+
+                position++;
+            }
+
+            return page;
+        }
+
+        private synchronized boolean hasNext() {
+            return position < references.size();
+        }
+
+        private boolean isExpired(long timeout) {
+            return System.nanoTime() - lastAccess > timeout;
         }
+
     }
+
 }
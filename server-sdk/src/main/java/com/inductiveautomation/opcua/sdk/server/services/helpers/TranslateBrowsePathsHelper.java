@@ -22,8 +22,8 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
-import com.inductiveautomation.opcua.sdk.core.AttributeIds;
 import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.sdk.server.BrowsePathCache.Lookup;
 import com.inductiveautomation.opcua.sdk.server.NamespaceManager;
 import com.inductiveautomation.opcua.sdk.server.OpcUaServer;
 import com.inductiveautomation.opcua.sdk.server.services.ServiceAttributes;
@@ -68,7 +68,7 @@ public class TranslateBrowsePathsHelper {
             service.setServiceFault(StatusCodes.Bad_TooManyOperations);
         } else {
             List<BrowsePathResult> results = Arrays.stream(browsePaths)
-                    .map(this::translate)
+                    .map(this::translateCached)
                     .collect(Collectors.toList());
 
             ResponseHeader header = service.createResponseHeader();
@@ -79,12 +79,22 @@ public class TranslateBrowsePathsHelper {
         }
     }
 
-    private BrowsePathResult translate(BrowsePath browsePath) {
+    private BrowsePathResult translateCached(BrowsePath browsePath) {
+        RelativePath relativePath = browsePath.getRelativePath();
+
+        if (relativePath == null || relativePath.getElements() == null || relativePath.getElements().length == 0) {
+            return new BrowsePathResult(new StatusCode(StatusCodes.Bad_NothingToDo), new BrowsePathTarget[0]);
+        }
+
+        return namespaceManager.getBrowsePathCache().translate(browsePath, this::translate);
+    }
+
+    private BrowsePathResult translate(BrowsePath browsePath, Lookup lookup) {
         NodeId startingNode = browsePath.getStartingNode();
         RelativePath relativePath = browsePath.getRelativePath();
 
         try {
-            List<BrowsePathTarget> targets = follow(startingNode, Lists.newArrayList(relativePath.getElements()));
+            List<BrowsePathTarget> targets = follow(lookup, startingNode, relativePath.getElements());
 
             return new BrowsePathResult(StatusCode.GOOD, targets.toArray(new BrowsePathTarget[targets.size()]));
         } catch (UaException e) {
@@ -92,91 +102,80 @@ public class TranslateBrowsePathsHelper {
         }
     }
 
-    private List<BrowsePathTarget> follow(NodeId nodeId, List<RelativePathElement> elements) throws UaException {
-        if (elements.size() == 1) {
-            List<ExpandedNodeId> targets = target(nodeId, elements.get(0));
+    private List<BrowsePathTarget> follow(Lookup lookup,
+                                          NodeId nodeId,
+                                          RelativePathElement[] elements) throws UaException {
+        int last = elements.length - 1;
 
-            if (targets.isEmpty()) throw new UaException(StatusCodes.Bad_NoMatch);
-
-            return targets.stream()
-                    .map(n -> new BrowsePathTarget(n, uint(0)))
-                    .collect(Collectors.toList());
-        } else {
-            RelativePathElement e = elements.remove(0);
-            ExpandedNodeId eNext = next(nodeId, e);
+        for (int i = 0; i < last; i++) {
+            ExpandedNodeId eNext = next(lookup, nodeId, elements[i]);
 
             Optional<NodeId> next = namespaceManager.toNodeId(eNext);
 
             if (next.isPresent()) {
-                return follow(next.get(), elements);
+                nodeId = next.get();
             } else {
-                return Lists.newArrayList(new BrowsePathTarget(eNext, uint(elements.size())));
+                return Lists.newArrayList(new BrowsePathTarget(eNext, uint(last - i)));
             }
         }
-    }
 
-    private ExpandedNodeId next(NodeId nodeId, RelativePathElement element) throws UaException {
-        NodeId referenceTypeId = element.getReferenceTypeId();
-        boolean includeSubtypes = element.getIncludeSubtypes();
-        QualifiedName targetName = element.getTargetName();
+        List<ExpandedNodeId> targets = target(lookup, nodeId, elements[last]);
 
-        List<Reference> references = namespaceManager.getReferences(nodeId)
-                .orElseThrow(() -> new UaException(StatusCodes.Bad_NodeIdUnknown));
+        if (targets.isEmpty()) throw new UaException(StatusCodes.Bad_NoMatch);
+
+        return targets.stream()
+                .map(n -> new BrowsePathTarget(n, uint(0)))
+                .collect(Collectors.toList());
+    }
 
-        return references.stream()
-                /* Filter for references of the requested type or its subtype, if allowed... */
-                .filter(r -> r.getReferenceTypeId().equals(referenceTypeId) ||
-                        (includeSubtypes && r.subtypeOf(referenceTypeId, namespaceManager)))
+    private ExpandedNodeId next(Lookup lookup, NodeId nodeId, RelativePathElement element) throws UaException {
+        QualifiedName targetName = element.getTargetName();
 
-                /* Filter for reference direction... */
-                .filter(r -> r.isInverse() == element.getIsInverse())
+        if (targetName == null || targetName.equals(QualifiedName.NULL_VALUE)) {
+            // Only the last element may omit the target name.
+            throw new UaException(StatusCodes.Bad_NoMatch);
+        }
 
-                /* Map to target ExpandedNodeId... */
-                .map(Reference::getTargetNodeId)
+        List<Reference> references = lookup.getReferences(nodeId, targetName)
+                .orElseThrow(() -> new UaException(StatusCodes.Bad_NodeIdUnknown));
 
-                /* Filter on on targets that match the target name... */
-                .filter(id -> {
-                    Optional<QualifiedName> browseName = namespaceManager.getAttribute(id, AttributeIds.BrowseName);
-                    return browseName.map(bn -> bn.equals(targetName)).orElse(false);
-                })
+        for (Reference reference : references) {
+            if (matchesReference(reference, element)) {
+                return reference.getTargetNodeId();
+            }
+        }
 
-                /* If we found one, return it. */
-                .findFirst().orElseThrow(() -> new UaException(StatusCodes.Bad_NoMatch));
+        throw new UaException(StatusCodes.Bad_NoMatch);
     }
 
-    private List<ExpandedNodeId> target(NodeId nodeId, RelativePathElement element) throws UaException {
-        NodeId referenceTypeId = element.getReferenceTypeId();
-        boolean includeSubtypes = element.getIncludeSubtypes();
-        QualifiedName targetName = element.getTargetName();
+    private List<ExpandedNodeId> target(Lookup lookup,
+                                        NodeId nodeId,
+                                        RelativePathElement element) throws UaException {
 
-        List<Reference> references = namespaceManager.getReferences(nodeId)
+        List<Reference> references = lookup.getReferences(nodeId, element.getTargetName())
                 .orElseThrow(() -> new UaException(StatusCodes.Bad_NodeIdUnknown));
 
-        return references.stream()
-                /* Filter for references of the requested type or its subtype, if allowed... */
-                .filter(r -> r.getReferenceTypeId().equals(referenceTypeId) ||
-                        (includeSubtypes && r.subtypeOf(referenceTypeId, namespaceManager)))
+        List<ExpandedNodeId> targets = Lists.newArrayList();
 
-                /* Filter for reference direction... */
-                .filter(r -> r.isInverse() == element.getIsInverse())
-
-                /* Map to target ExpandedNodeId... */
-                .map(Reference::getTargetNodeId)
-
-                /* Filter on on targets that match the target name... */
-                .filter(id -> {
-                    Optional<QualifiedName> browseName = namespaceManager.getAttribute(id, AttributeIds.BrowseName);
-                    return browseName.map(bn -> matchesTarget(bn, targetName)).orElse(false);
-                })
+        for (Reference reference : references) {
+            if (matchesReference(reference, element)) {
+                targets.add(reference.getTargetNodeId());
+            }
+        }
 
-                /* Voila! */
-                .collect(Collectors.toList());
+        return targets;
     }
 
-    private boolean matchesTarget(QualifiedName browseName, QualifiedName targetName) {
-        return targetName == null ||
-                targetName.equals(QualifiedName.NULL_VALUE) ||
-                targetName.equals(browseName);
+    /**
+     * @return {@code true} if {@code reference} is of the type, or a subtype if allowed, and direction of
+     * {@code element}.
+     */
+    private boolean matchesReference(Reference reference, RelativePathElement element) {
+        NodeId referenceTypeId = element.getReferenceTypeId();
+
+        return reference.isInverse() == element.getIsInverse() &&
+                (reference.getReferenceTypeId().equals(referenceTypeId) ||
+                        (element.getIncludeSubtypes() && reference.subtypeOf(referenceTypeId, namespaceManager)));
     }
 
 }
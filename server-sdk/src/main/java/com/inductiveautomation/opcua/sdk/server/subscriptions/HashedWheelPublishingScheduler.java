@@ -0,0 +1,471 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.subscriptions;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.inductiveautomation.opcua.sdk.server.OpcUaServer;
+import com.inductiveautomation.opcua.sdk.server.api.PublishingScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link PublishingScheduler} backed by a hashed timer wheel.
+ * <p>
+ * Timers are registered once and live in a bucket of the wheel until cancelled; a single worker thread advances the
+ * wheel one bucket per tick and hands every expired timer in that bucket to an {@link Executor} in batches. Adding,
+ * re-arming and cancelling a timer are all O(1), so the cost of driving many thousands of Subscriptions does not
+ * depend on a shared, heap-ordered delay queue.
+ * <p>
+ * Timers fire at a fixed rate with a resolution of one tick; a timer that falls behind skips the missed executions
+ * rather than firing them back-to-back.
+ * <p>
+ * A scheduler's worker thread is started by the first {@link #schedule(Runnable, long, TimeUnit)} and runs until
+ * {@link #shutdown()}; the {@link Executor} it's given is never shut down by it.
+ */
+public class HashedWheelPublishingScheduler implements PublishingScheduler {
+
+    private static final long DEFAULT_TICK_DURATION_MILLIS = 10L;
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final int BATCH_SIZE = 64;
+
+    private static final int WORKER_STATE_INIT = 0;
+    private static final int WORKER_STATE_STARTED = 1;
+    private static final int WORKER_STATE_SHUTDOWN = 2;
+
+    private static final ThreadFactory WORKER_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("ua-publishing-wheel-%d")
+            .setDaemon(true).build();
+
+    private static final ThreadFactory EXECUTOR_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("ua-publishing-timer-%d")
+            .setDaemon(true).build();
+
+    private static class SharedInstanceHolder {
+        private static final HashedWheelPublishingScheduler INSTANCE = new HashedWheelPublishingScheduler(
+                Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), EXECUTOR_THREAD_FACTORY));
+
+        static {
+            INSTANCE.shared = true;
+        }
+    }
+
+    /**
+     * The shared instance is a JVM-wide daemon pool: its worker thread and its executor's
+     * {@code availableProcessors()} threads are daemon threads that live until the JVM exits, whichever servers come
+     * and go. {@link OpcUaServer#shutdown()} doesn't stop it, and it can't be shut down through {@link #shutdown()};
+     * servers that need to release their publishing threads should configure a scheduler of their own and shut it
+     * down themselves.
+     *
+     * @return a {@link HashedWheelPublishingScheduler} shared by every server in this JVM.
+     */
+    public static HashedWheelPublishingScheduler getSharedInstance() {
+        return SharedInstanceHolder.INSTANCE;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Queue<WheelTimer> pendingTimers = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_STATE_INIT);
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+    private volatile long startTime = 0L;
+    private volatile boolean shared = false;
+
+    private final Worker worker = new Worker();
+
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long tickDuration;
+    private final Executor executor;
+    private final LongSupplier nanoTime;
+
+    /**
+     * The thread that advances the wheel, or {@code null} if it's advanced by calls to {@link #runDueTicks()}.
+     */
+    private final Thread workerThread;
+
+    public HashedWheelPublishingScheduler(Executor executor) {
+        this(executor, DEFAULT_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * @param executor      the {@link Executor} expired timers are run on.
+     * @param tickDuration  the duration of one tick; the resolution of every timer.
+     * @param unit          the {@link TimeUnit} of {@code tickDuration}.
+     * @param ticksPerWheel the number of buckets in the wheel; rounded up to a power of 2.
+     */
+    public HashedWheelPublishingScheduler(Executor executor, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this(executor, tickDuration, unit, ticksPerWheel, System::nanoTime, true);
+    }
+
+    /**
+     * Create a scheduler without a worker thread, whose wheel only advances when {@link #runDueTicks()} is called.
+     *
+     * @param nanoTime the clock, in nanoseconds, that timer deadlines are measured against.
+     */
+    HashedWheelPublishingScheduler(Executor executor,
+                                   long tickDuration,
+                                   TimeUnit unit,
+                                   int ticksPerWheel,
+                                   LongSupplier nanoTime) {
+
+        this(executor, tickDuration, unit, ticksPerWheel, nanoTime, false);
+    }
+
+    private HashedWheelPublishingScheduler(Executor executor,
+                                           long tickDuration,
+                                           TimeUnit unit,
+                                           int ticksPerWheel,
+                                           LongSupplier nanoTime,
+                                           boolean startWorker) {
+
+        Preconditions.checkNotNull(executor, "executor");
+        Preconditions.checkArgument(tickDuration > 0, "tickDuration must be > 0");
+        Preconditions.checkArgument(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30),
+                "ticksPerWheel must be in (0, 2^30]");
+
+        this.executor = executor;
+        this.tickDuration = unit.toNanos(tickDuration);
+        this.nanoTime = nanoTime;
+
+        int wheelSize = 1;
+        while (wheelSize < ticksPerWheel) wheelSize <<= 1;
+
+        wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = wheelSize - 1;
+
+        if (startWorker) {
+            workerThread = WORKER_THREAD_FACTORY.newThread(worker);
+        } else {
+            workerThread = null;
+            initializeStartTime();
+        }
+    }
+
+    @Override
+    public PublishingTimer schedule(Runnable task, long interval, TimeUnit unit) {
+        Preconditions.checkNotNull(task, "task");
+        Preconditions.checkArgument(interval > 0, "interval must be > 0");
+
+        start();
+
+        WheelTimer timer = new WheelTimer(task, unit.toNanos(interval));
+        timer.deadline = nanoTime.getAsLong() - startTime + timer.interval;
+
+        pendingTimers.add(timer);
+
+        return timer;
+    }
+
+    /**
+     * Stop the worker thread. Timers that have not yet expired will never run.
+     *
+     * @throws IllegalStateException if this is the {@link #getSharedInstance() shared instance}.
+     */
+    public void shutdown() {
+        Preconditions.checkState(!shared, "the shared instance can't be shut down");
+
+        if (workerState.getAndSet(WORKER_STATE_SHUTDOWN) == WORKER_STATE_STARTED && workerThread != null) {
+            workerThread.interrupt();
+        }
+    }
+
+    /**
+     * Run every tick that has come due by the clock, expiring its timers. Only for a scheduler created without a
+     * worker thread.
+     */
+    void runDueTicks() {
+        Preconditions.checkState(workerThread == null, "wheel is advanced by its worker thread");
+
+        if (workerState.get() == WORKER_STATE_STARTED) {
+            worker.advance(nanoTime.getAsLong() - startTime);
+        }
+    }
+
+    private void initializeStartTime() {
+        long now = nanoTime.getAsLong();
+        startTime = (now == 0L) ? 1L : now;
+        startTimeInitialized.countDown();
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_STATE_INIT:
+                if (workerState.compareAndSet(WORKER_STATE_INIT, WORKER_STATE_STARTED) && workerThread != null) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STATE_STARTED:
+                break;
+            case WORKER_STATE_SHUTDOWN:
+                throw new IllegalStateException("scheduler has been shut down");
+            default:
+                throw new IllegalStateException("unknown worker state");
+        }
+
+        while (startTime == 0L) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException ignored) {
+                // Ignore; the worker is about to initialize startTime.
+            }
+        }
+    }
+
+    private class Worker implements Runnable {
+
+        private final List<WheelTimer> expired = Lists.newArrayList();
+
+        private long tick = 0L;
+
+        @Override
+        public void run() {
+            initializeStartTime();
+
+            while (workerState.get() == WORKER_STATE_STARTED) {
+                long currentTime = waitForNextTick();
+
+                if (currentTime > 0) {
+                    advance(currentTime);
+                }
+            }
+        }
+
+        /**
+         * Expire the bucket of every tick whose deadline has been reached by {@code currentTime}.
+         *
+         * @param currentTime the current time relative to {@code startTime}.
+         */
+        private void advance(long currentTime) {
+            while (tickDuration * (tick + 1) <= currentTime) {
+                transferPendingTimers();
+
+                wheel[(int) (tick & mask)].expire(expired);
+
+                tick++;
+
+                if (!expired.isEmpty()) {
+                    rearm(currentTime);
+                    dispatch();
+                    expired.clear();
+                }
+            }
+        }
+
+        /**
+         * Sleep until the deadline of the current tick has been reached.
+         *
+         * @return the current time relative to {@code startTime}, or -1 if shut down while sleeping.
+         */
+        private long waitForNextTick() {
+            long deadline = tickDuration * (tick + 1);
+
+            while (true) {
+                long currentTime = nanoTime.getAsLong() - startTime;
+                long sleepTimeMillis = (deadline - currentTime + 999999) / 1000000;
+
+                if (sleepTimeMillis <= 0) {
+                    return currentTime;
+                }
+
+                try {
+                    Thread.sleep(sleepTimeMillis);
+                } catch (InterruptedException e) {
+                    if (workerState.get() == WORKER_STATE_SHUTDOWN) {
+                        return -1;
+                    }
+                }
+            }
+        }
+
+        private void transferPendingTimers() {
+            WheelTimer timer;
+
+            while ((timer = pendingTimers.poll()) != null) {
+                if (!timer.cancelled) add(timer);
+            }
+        }
+
+        /**
+         * Add {@code timer} to the bucket its deadline falls in. The bucket for the current value of {@code tick} is
+         * the next one to be expired.
+         */
+        private void add(WheelTimer timer) {
+            long calculated = timer.deadline / tickDuration;
+            timer.remainingRounds = (calculated - tick) / wheel.length;
+
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timer);
+        }
+
+        /**
+         * Advance each expired timer by its interval (skipping any executions it has fallen behind on) and put it
+         * back on the wheel.
+         */
+        private void rearm(long currentTime) {
+            for (WheelTimer timer : expired) {
+                long interval = timer.interval;
+
+                timer.deadline += interval;
+
+                if (timer.deadline <= currentTime) {
+                    long missed = (currentTime - timer.deadline) / interval + 1;
+                    timer.deadline += missed * interval;
+                }
+
+                add(timer);
+            }
+        }
+
+        private void dispatch() {
+            for (int i = 0; i < expired.size(); i += BATCH_SIZE) {
+                List<WheelTimer> batch = Lists.newArrayList(
+                        expired.subList(i, Math.min(i + BATCH_SIZE, expired.size())));
+
+                try {
+                    executor.execute(() -> batch.forEach(WheelTimer::expire));
+                } catch (RejectedExecutionException e) {
+                    logger.warn("Publishing timer execution rejected; {} timers skipped.", batch.size(), e);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A doubly-linked list of {@link WheelTimer}s. Only ever accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        private WheelTimer head;
+        private WheelTimer tail;
+
+        private void add(WheelTimer timer) {
+            if (head == null) {
+                head = tail = timer;
+            } else {
+                tail.next = timer;
+                timer.prev = tail;
+                tail = timer;
+            }
+        }
+
+        /**
+         * Remove every timer whose remaining rounds have run out and add it to {@code expired}. Cancelled timers are
+         * dropped along the way.
+         */
+        private void expire(List<WheelTimer> expired) {
+            WheelTimer timer = head;
+
+            while (timer != null) {
+                WheelTimer next = timer.next;
+
+                if (timer.cancelled) {
+                    remove(timer);
+                } else if (timer.remainingRounds <= 0) {
+                    remove(timer);
+                    expired.add(timer);
+                } else {
+                    timer.remainingRounds--;
+                }
+
+                timer = next;
+            }
+        }
+
+        private void remove(WheelTimer timer) {
+            if (timer.prev != null) timer.prev.next = timer.next;
+            if (timer.next != null) timer.next.prev = timer.prev;
+            if (timer == head) head = timer.next;
+            if (timer == tail) tail = timer.prev;
+
+            timer.prev = null;
+            timer.next = null;
+        }
+
+    }
+
+    private final class WheelTimer implements PublishingTimer {
+
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private volatile long interval;
+        private volatile boolean cancelled = false;
+
+        private long deadline;
+        private long remainingRounds;
+        private WheelTimer prev;
+        private WheelTimer next;
+
+        private final Runnable task;
+
+        private WheelTimer(Runnable task, long interval) {
+            this.task = task;
+            this.interval = interval;
+        }
+
+        @Override
+        public void setInterval(long interval, TimeUnit unit) {
+            Preconditions.checkArgument(interval > 0, "interval must be > 0");
+
+            this.interval = unit.toNanos(interval);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void expire() {
+            if (cancelled) return;
+
+            if (running.compareAndSet(false, true)) {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    logger.error("Uncaught exception in publishing timer task.", t);
+                } finally {
+                    running.set(false);
+                }
+            } else {
+                logger.debug("Publishing timer task still running; skipping execution.");
+            }
+        }
+
+    }
+
+}
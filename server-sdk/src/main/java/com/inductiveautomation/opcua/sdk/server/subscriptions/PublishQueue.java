@@ -16,12 +16,18 @@
 
 package com.inductiveautomation.opcua.sdk.server.subscriptions;
 
+import java.util.ArrayDeque;
 import java.util.Date;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.inductiveautomation.opcua.stack.core.types.structured.PublishRequest;
@@ -29,13 +35,50 @@ import com.inductiveautomation.opcua.stack.core.types.structured.PublishResponse
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Matches queued Publish requests with wait-listed Subscriptions without taking any locks.
+ * <p>
+ * The wait list is indexed by Subscription priority: each of the 256 possible priorities has its own FIFO bucket, and
+ * a bitmap tracks which buckets may be non-empty, so finding the highest priority, longest waiting Subscription is a
+ * handful of word operations regardless of how many Subscriptions are waiting.
+ * <p>
+ * Callers add requests and Subscriptions while holding a Subscription's monitor, so matched pairs are handed to
+ * {@link Subscription#onPublish(ServiceRequest)} on the executor rather than on the calling thread. Delivering inline
+ * would take a second Subscription's monitor while still holding the first, and two Subscriptions delivering to each
+ * other could deadlock.
+ * <p>
+ * Requests matched with the same Subscription are delivered to it one at a time, in the order they were matched. A
+ * publishing timer tick may still run between a match and its delivery; that's safe because a Subscription is only
+ * wait-listed while Late, and a Late tick only counts down the lifetime (row 12 of the Subscription state table), which
+ * the delivered request then resets, or closes the Subscription, in which case the request is answered as closed.
+ */
 public class PublishQueue {
 
+    private static final int PRIORITY_COUNT = 256;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private final LinkedList<ServiceRequest<PublishRequest, PublishResponse>> serviceQueue = new LinkedList<>();
+    private final Deque<ServiceRequest<PublishRequest, PublishResponse>> serviceQueue = new ConcurrentLinkedDeque<>();
+
+    private final Map<UInteger, WaitingSubscription> waitList = Maps.newConcurrentMap();
 
-    private final LinkedHashMap<UInteger, WaitingSubscription> waitList = new LinkedHashMap<>();
+    private final AtomicReferenceArray<Deque<WaitingSubscription>> waitBuckets =
+            new AtomicReferenceArray<>(PRIORITY_COUNT);
+
+    private final AtomicLongArray waitBucketBits = new AtomicLongArray(PRIORITY_COUNT / 64);
+
+    /**
+     * Requests matched with each Subscription and not yet delivered to it. An entry exists while a delivery task is
+     * scheduled or running for the Subscription; only ever accessed through the map's atomic compute methods.
+     */
+    private final Map<UInteger, Deque<ServiceRequest<PublishRequest, PublishResponse>>> pendingDeliveries =
+            Maps.newConcurrentMap();
+
+    private final Executor executor;
+
+    public PublishQueue(Executor executor) {
+        this.executor = executor;
+    }
 
     /**
      * Add a Publish {@link ServiceRequest} to the queue.
@@ -45,44 +88,12 @@ public class PublishQueue {
      *
      * @param service the Publish {@link ServiceRequest}.
      */
-    public synchronized void addRequest(ServiceRequest<PublishRequest, PublishResponse> service) {
-        List<WaitingSubscription> waitingSubscriptions = Lists.newArrayList(waitList.values());
-
-        if (waitingSubscriptions.isEmpty()) {
-            serviceQueue.add(service);
+    public void addRequest(ServiceRequest<PublishRequest, PublishResponse> service) {
+        serviceQueue.offerLast(service);
 
-            logger.debug("Queued PublishRequest, size={}", serviceQueue.size());
-        } else {
-            WaitingSubscription subscription = null;
+        logger.debug("Queued PublishRequest, size={}", serviceQueue.size());
 
-            int maxPriority = 0;
-            long minWaitingSince = Long.MAX_VALUE;
-
-            for (WaitingSubscription waiting : waitingSubscriptions) {
-                int priority = waiting.getSubscription().getPriority();
-                long waitingSince = waiting.getWaitingSince().getTime();
-
-                if (priority > maxPriority) {
-                    maxPriority = priority;
-                    minWaitingSince = Long.MAX_VALUE;
-                }
-                if (priority >= maxPriority && waitingSince < minWaitingSince) {
-                    minWaitingSince = waitingSince;
-                    subscription = waiting;
-                }
-            }
-
-            if (subscription != null) {
-                waitList.remove(subscription.subscription.getId());
-
-                logger.debug("Delivering PublishRequest to Subscription [id={}]",
-                        subscription.getSubscription().getId());
-
-                subscription.subscription.onPublish(service);
-            } else {
-                serviceQueue.add(service);
-            }
-        }
+        deliver();
     }
 
     /**
@@ -98,24 +109,173 @@ public class PublishQueue {
      *
      * @param subscription the subscription to wait-list.
      */
-    public synchronized void addSubscription(Subscription subscription) {
-        if (waitList.isEmpty() && !serviceQueue.isEmpty()) {
-            subscription.onPublish(serviceQueue.poll());
-        } else {
-            waitList.putIfAbsent(subscription.getId(), new WaitingSubscription(subscription));
+    public void addSubscription(Subscription subscription) {
+        WaitingSubscription waiting = new WaitingSubscription(subscription);
+
+        if (waitList.putIfAbsent(subscription.getId(), waiting) == null) {
+            int priority = waiting.getPriority();
+
+            bucket(priority).offerLast(waiting);
+            setBucketBit(priority);
         }
+
+        deliver();
     }
 
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         return serviceQueue.isEmpty();
     }
 
-    public synchronized boolean isNotEmpty() {
+    public boolean isNotEmpty() {
         return !isEmpty();
     }
 
-    public synchronized ServiceRequest<PublishRequest, PublishResponse> poll() {
-        return serviceQueue.poll();
+    public ServiceRequest<PublishRequest, PublishResponse> poll() {
+        return serviceQueue.pollFirst();
+    }
+
+    /**
+     * Pair queued requests with waiting Subscriptions until one side runs out.
+     * <p>
+     * Both {@link #addRequest(ServiceRequest)} and {@link #addSubscription(Subscription)} publish their element before
+     * calling this, so whichever caller arrives second is guaranteed to see the other's element.
+     * <p>
+     * A polled Subscription is taken off the wait list before a request is polled for it, so a Subscription added
+     * again in the meantime is wait-listed anew rather than being absorbed by the entry about to be used.
+     * <p>
+     * The matching itself takes no locks; only the hand-off to the Subscription, which is synchronized, is dispatched
+     * to the executor so it never runs under the caller's monitor.
+     */
+    private void deliver() {
+        while (!serviceQueue.isEmpty()) {
+            WaitingSubscription waiting = pollWaiting();
+            if (waiting == null) return;
+
+            Subscription subscription = waiting.getSubscription();
+            waitList.remove(subscription.getId(), waiting);
+
+            ServiceRequest<PublishRequest, PublishResponse> service = serviceQueue.pollFirst();
+
+            if (service == null) {
+                // Lost the request to another thread; put the subscription back where it was, unless it has been
+                // wait-listed again in the meantime, and re-check.
+                if (waitList.putIfAbsent(subscription.getId(), waiting) == null) {
+                    int priority = waiting.getPriority();
+
+                    bucket(priority).offerFirst(waiting);
+                    setBucketBit(priority);
+                }
+            } else {
+                logger.debug("Delivering PublishRequest to Subscription [id={}]", subscription.getId());
+
+                dispatch(subscription, service);
+            }
+        }
+    }
+
+    /**
+     * Queue {@code service} for delivery to {@code subscription}, starting a delivery task unless one is already
+     * scheduled or running for it.
+     */
+    private void dispatch(Subscription subscription, ServiceRequest<PublishRequest, PublishResponse> service) {
+        UInteger id = subscription.getId();
+        boolean[] start = new boolean[1];
+
+        pendingDeliveries.compute(id, (k, pending) -> {
+            if (pending == null) {
+                pending = new ArrayDeque<>();
+                start[0] = true;
+            }
+            pending.offerLast(service);
+            return pending;
+        });
+
+        if (start[0]) {
+            try {
+                executor.execute(() -> deliverPending(subscription));
+            } catch (RejectedExecutionException e) {
+                Deque<ServiceRequest<PublishRequest, PublishResponse>> dropped = pendingDeliveries.remove(id);
+
+                logger.warn("Delivery of PublishRequest to Subscription [id={}] rejected; {} requests dropped.",
+                        id, dropped != null ? dropped.size() : 0, e);
+            }
+        }
+    }
+
+    /**
+     * Deliver the requests pending for {@code subscription} in order, removing its entry once none are left.
+     */
+    private void deliverPending(Subscription subscription) {
+        UInteger id = subscription.getId();
+
+        AtomicReference<ServiceRequest<PublishRequest, PublishResponse>> next = new AtomicReference<>();
+
+        while (true) {
+            pendingDeliveries.computeIfPresent(id, (k, pending) -> {
+                next.set(pending.pollFirst());
+                return next.get() != null ? pending : null;
+            });
+
+            ServiceRequest<PublishRequest, PublishResponse> service = next.getAndSet(null);
+            if (service == null) return;
+
+            try {
+                subscription.onPublish(service);
+            } catch (Throwable t) {
+                logger.error("Uncaught exception delivering PublishRequest to Subscription [id={}].", id, t);
+            }
+        }
+    }
+
+    /**
+     * @return the highest priority, longest waiting {@link WaitingSubscription}, or {@code null} if there is none.
+     */
+    private WaitingSubscription pollWaiting() {
+        for (int word = waitBucketBits.length() - 1; word >= 0; word--) {
+            long bits = waitBucketBits.get(word);
+
+            while (bits != 0) {
+                int bit = 63 - Long.numberOfLeadingZeros(bits);
+                int priority = word * 64 + bit;
+
+                Deque<WaitingSubscription> bucket = waitBuckets.get(priority);
+                WaitingSubscription waiting = (bucket != null) ? bucket.pollFirst() : null;
+
+                if (waiting != null) return waiting;
+
+                clearBucketBit(priority);
+
+                // A concurrent add may have landed between the poll and the clear.
+                if (bucket != null && !bucket.isEmpty()) {
+                    setBucketBit(priority);
+                }
+
+                bits &= ~(1L << bit);
+            }
+        }
+
+        return null;
+    }
+
+    private Deque<WaitingSubscription> bucket(int priority) {
+        Deque<WaitingSubscription> bucket = waitBuckets.get(priority);
+
+        if (bucket == null) {
+            waitBuckets.compareAndSet(priority, null, new ConcurrentLinkedDeque<>());
+            bucket = waitBuckets.get(priority);
+        }
+
+        return bucket;
+    }
+
+    private void setBucketBit(int priority) {
+        long mask = 1L << (priority & 63);
+        waitBucketBits.getAndAccumulate(priority >>> 6, mask, (bits, m) -> bits | m);
+    }
+
+    private void clearBucketBit(int priority) {
+        long mask = 1L << (priority & 63);
+        waitBucketBits.getAndAccumulate(priority >>> 6, mask, (bits, m) -> bits & ~m);
     }
 
     public static class WaitingSubscription {
@@ -123,9 +283,11 @@ public class PublishQueue {
         private final Date waitingSince = new Date();
 
         private final Subscription subscription;
+        private final int priority;
 
         public WaitingSubscription(Subscription subscription) {
             this.subscription = subscription;
+            this.priority = Math.max(0, Math.min(PRIORITY_COUNT - 1, subscription.getPriority()));
         }
 
         public Subscription getSubscription() {
@@ -136,6 +298,13 @@ public class PublishQueue {
             return waitingSince;
         }
 
+        /**
+         * @return the priority of the Subscription at the time it was wait-listed, clamped to [0, 255].
+         */
+        public int getPriority() {
+            return priority;
+        }
+
     }
 
 }
@@ -18,12 +18,14 @@ package com.inductiveautomation.opcua.sdk.server.subscriptions;
 
 import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,7 +37,9 @@ import com.google.common.collect.PeekingIterator;
 import com.google.common.math.DoubleMath;
 import com.google.common.primitives.Ints;
 import com.inductiveautomation.opcua.sdk.server.Session;
+import com.inductiveautomation.opcua.sdk.server.api.PublishingScheduler.PublishingTimer;
 import com.inductiveautomation.opcua.sdk.server.items.BaseMonitoredItem;
+import com.inductiveautomation.opcua.sdk.server.items.MonitoredDataItem;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
 import com.inductiveautomation.opcua.stack.core.serialization.UaStructure;
@@ -72,11 +76,16 @@ public class Subscription {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private volatile Iterator<BaseMonitoredItem<?>> lastIterator = Iterators.emptyIterator();
-
     private final AtomicLong itemIds = new AtomicLong(1L);
     private final Map<UInteger, BaseMonitoredItem<?>> itemsById = Maps.newConcurrentMap();
 
+    /**
+     * Items that may have notifications to report. Items add themselves when they become dirty; items that could not
+     * be fully drained by the previous publish go back on the front.
+     */
+    private final Deque<BaseMonitoredItem<?>> dirtyItems = new ConcurrentLinkedDeque<>();
+    private final BaseMonitoredItem.DirtyListener dirtyListener = dirtyItems::offerLast;
+
     private final AtomicReference<State> state = new AtomicReference<>(State.Normal);
     private final AtomicReference<StateListener> stateListener = new AtomicReference<>();
 
@@ -87,6 +96,8 @@ public class Subscription {
     private final PublishHandler publishHandler = new PublishHandler();
     private final TimerHandler timerHandler = new TimerHandler();
 
+    private volatile PublishingTimer publishingTimer;
+
     private volatile boolean messageSent = false;
     private volatile boolean moreNotifications = false;
     private volatile long keepAliveCounter;
@@ -138,6 +149,11 @@ public class Subscription {
 
         this.priority = request.getPriority().intValue();
 
+        PublishingTimer timer = publishingTimer;
+        if (timer != null) {
+            timer.setInterval(DoubleMath.roundToLong(publishingInterval, RoundingMode.UP), TimeUnit.MILLISECONDS);
+        }
+
         resetLifetimeCounter();
 
         logger.debug("[id={}] subscription modified, interval={}, keep-alive={}, lifetime={}",
@@ -145,8 +161,15 @@ public class Subscription {
     }
 
     public synchronized List<BaseMonitoredItem<?>> deleteSubscription() {
+        stopPublishingTimer();
         setState(State.Closed);
 
+        for (BaseMonitoredItem<?> item : itemsById.values()) {
+            if (item instanceof MonitoredDataItem) {
+                ((MonitoredDataItem) item).uninstallEURange();
+            }
+        }
+
         logger.debug("[id={}] subscription deleted.", subscriptionId);
 
         return Lists.newArrayList(itemsById.values());
@@ -163,6 +186,7 @@ public class Subscription {
     public synchronized void addMonitoredItems(List<BaseMonitoredItem<?>> createdItems) {
         for (BaseMonitoredItem<?> item : createdItems) {
             itemsById.put(item.getId(), item);
+            item.setDirtyListener(dirtyListener);
         }
 
         resetLifetimeCounter();
@@ -173,6 +197,11 @@ public class Subscription {
     public synchronized void removeMonitoredItems(List<BaseMonitoredItem<?>> deletedItems) {
         for (BaseMonitoredItem<?> item : deletedItems) {
             itemsById.remove(item.getId());
+            item.setDirtyListener(null);
+
+            if (item instanceof MonitoredDataItem) {
+                ((MonitoredDataItem) item).uninstallEURange();
+            }
         }
 
         resetLifetimeCounter();
@@ -357,17 +386,25 @@ public class Subscription {
     private void returnNotifications(ServiceRequest<PublishRequest, PublishResponse> service) {
         LinkedHashSet<BaseMonitoredItem<?>> items = new LinkedHashSet<>();
 
-        lastIterator.forEachRemaining(items::add);
+        BaseMonitoredItem<?> item;
+        while ((item = dirtyItems.pollFirst()) != null) {
+            item.clearDirty();
 
-        itemsById.values().stream()
-                .filter(item -> item.hasNotifications() || item.isTriggered())
-                .forEach(items::add);
+            if (isCurrent(item) && (item.hasNotifications() || item.isTriggered())) {
+                items.add(item);
+            }
+        }
 
         PeekingIterator<BaseMonitoredItem<?>> iterator = Iterators.peekingIterator(items.iterator());
 
         gatherAndSend(iterator, Optional.of(service));
+    }
 
-        lastIterator = iterator.hasNext() ? iterator : Iterators.emptyIterator();
+    /**
+     * @return {@code true} if {@code item} still belongs to this Subscription.
+     */
+    private boolean isCurrent(BaseMonitoredItem<?> item) {
+        return itemsById.get(item.getId()) == item;
     }
 
     /**
@@ -401,6 +438,13 @@ public class Subscription {
             }
         } else {
             if (moreNotifications) {
+                // Put the items we couldn't get to back at the front so they go first next time.
+                List<BaseMonitoredItem<?>> remaining = Lists.newArrayList(iterator);
+
+                for (int i = remaining.size() - 1; i >= 0; i--) {
+                    dirtyItems.offerFirst(remaining.get(i));
+                }
+
                 publishQueue().addSubscription(this);
             }
         }
@@ -471,8 +515,25 @@ public class Subscription {
     }
 
     private boolean notificationsAvailable() {
-        return itemsById.values().stream()
-                .anyMatch(item -> item.hasNotifications() || item.isTriggered());
+        Iterator<BaseMonitoredItem<?>> iterator = dirtyItems.iterator();
+
+        while (iterator.hasNext()) {
+            BaseMonitoredItem<?> item = iterator.next();
+
+            if (isCurrent(item)) {
+                if (item.hasNotifications() || item.isTriggered()) return true;
+
+                // Nothing to report; drop it until it's marked dirty again. Clear before re-checking so a concurrent
+                // change either shows up in the re-check or re-adds the item.
+                item.clearDirty();
+
+                if (item.hasNotifications() || item.isTriggered()) return true;
+            }
+
+            iterator.remove();
+        }
+
+        return false;
     }
 
     private void setState(State state) {
@@ -573,11 +634,35 @@ public class Subscription {
         if (state == State.Normal) timerHandler.whenNormal();
         else if (state == State.KeepAlive) timerHandler.whenKeepAlive();
         else if (state == State.Late) timerHandler.whenLate();
-        else if (state == State.Closed) logger.debug("[id={}] onPublish(), state={}", subscriptionId, state); // No-op.
+        else if (state == State.Closing || state == State.Closed) {
+            logger.debug("[id={}] onPublishingTimer(), state={}", subscriptionId, state); // No-op.
+        }
         else throw new RuntimeException("unhandled subscription state: " + state);
     }
 
+    /**
+     * Register this Subscription's publishing timer with the server's
+     * {@link com.inductiveautomation.opcua.sdk.server.api.PublishingScheduler}.
+     * <p>
+     * The timer is periodic; it only needs to be started once, when the Subscription is created.
+     */
     synchronized void startPublishingTimer() {
+        if (state.get() == State.Closed || publishingTimer != null) return;
+
+        long interval = DoubleMath.roundToLong(publishingInterval, RoundingMode.UP);
+
+        publishingTimer = subscriptionManager.getServer().getPublishingScheduler().schedule(
+                this::onPublishingTimer,
+                interval,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Account for another publishing cycle having started, as per the "start publishing timer" actions in the
+     * Subscription state table. The periodic timer keeps running unless the lifetime has expired.
+     */
+    private void restartPublishingTimer() {
         if (state.get() == State.Closed) return;
 
         lifetimeCounter--;
@@ -585,15 +670,17 @@ public class Subscription {
         if (lifetimeCounter < 1) {
             logger.debug("[id={}] lifetime expired.", subscriptionId);
 
+            stopPublishingTimer();
             setState(State.Closing);
-        } else {
-            long interval = DoubleMath.roundToLong(publishingInterval, RoundingMode.UP);
+        }
+    }
+
+    private void stopPublishingTimer() {
+        PublishingTimer timer = publishingTimer;
 
-            subscriptionManager.getServer().getScheduledExecutorService().schedule(
-                    this::onPublishingTimer,
-                    interval,
-                    TimeUnit.MILLISECONDS
-            );
+        if (timer != null) {
+            timer.cancel();
+            publishingTimer = null;
         }
     }
 
@@ -687,7 +774,7 @@ public class Subscription {
                     resetLifetimeCounter();
                     returnNotifications(service.get());
                     messageSent = true;
-                    startPublishingTimer();
+                    restartPublishingTimer();
                 } else {
                     whenNormal();
                 }
@@ -702,7 +789,7 @@ public class Subscription {
                     resetLifetimeCounter();
                     returnKeepAlive(service.get());
                     messageSent = true;
-                    startPublishingTimer();
+                    restartPublishingTimer();
                 } else {
                     whenNormal();
                 }
@@ -710,7 +797,7 @@ public class Subscription {
             /* Subscription State Table Row 8 */
             else if (!publishRequestQueued && (!messageSent || (publishingEnabled && notificationsAvailable))) {
                 setState(State.Late);
-                startPublishingTimer();
+                restartPublishingTimer();
 
                 publishQueue().addSubscription(Subscription.this);
             }
@@ -718,7 +805,7 @@ public class Subscription {
             else if (messageSent && (!publishingEnabled || (publishingEnabled && !notificationsAvailable))) {
                 setState(State.KeepAlive);
                 resetKeepAliveCounter();
-                startPublishingTimer();
+                restartPublishingTimer();
             } else {
                 throw new IllegalStateException("unhandled subscription state");
             }
@@ -726,7 +813,7 @@ public class Subscription {
 
         private void whenLate() {
             /* Subscription State Table Row 12 */
-            startPublishingTimer();
+            restartPublishingTimer();
         }
 
         private void whenKeepAlive() {
@@ -744,7 +831,7 @@ public class Subscription {
                     resetLifetimeCounter();
                     returnNotifications(service.get());
                     messageSent = true;
-                    startPublishingTimer();
+                    restartPublishingTimer();
                 } else {
                     whenKeepAlive();
                 }
@@ -760,7 +847,7 @@ public class Subscription {
                     returnKeepAlive(service.get());
                     resetLifetimeCounter();
                     resetKeepAliveCounter();
-                    startPublishingTimer();
+                    restartPublishingTimer();
                 } else {
                     whenKeepAlive();
                 }
@@ -770,7 +857,7 @@ public class Subscription {
                     (!publishingEnabled || (publishingEnabled && !notificationsAvailable))) {
 
                 keepAliveCounter--;
-                startPublishingTimer();
+                restartPublishingTimer();
             }
             /* Subscription State Table Row 17 */
             else if (!publishRequestQueued &&
@@ -778,7 +865,7 @@ public class Subscription {
                             (keepAliveCounter > 1 && publishingEnabled && notificationsAvailable))) {
 
                 setState(State.Late);
-                startPublishingTimer();
+                restartPublishingTimer();
 
                 publishQueue().addSubscription(Subscription.this);
             }
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -33,9 +34,12 @@ import com.inductiveautomation.opcua.sdk.server.Session;
 import com.inductiveautomation.opcua.sdk.server.api.DataItem;
 import com.inductiveautomation.opcua.sdk.server.api.EventItem;
 import com.inductiveautomation.opcua.sdk.server.api.MonitoredItem;
+import com.inductiveautomation.opcua.sdk.server.api.Namespace;
+import com.inductiveautomation.opcua.sdk.server.api.UaNamespace;
 import com.inductiveautomation.opcua.sdk.server.items.BaseMonitoredItem;
 import com.inductiveautomation.opcua.sdk.server.items.MonitoredDataItem;
 import com.inductiveautomation.opcua.sdk.server.items.MonitoredEventItem;
+import com.inductiveautomation.opcua.sdk.server.model.UaNode;
 import com.inductiveautomation.opcua.sdk.server.subscriptions.Subscription.State;
 import com.inductiveautomation.opcua.stack.core.StatusCodes;
 import com.inductiveautomation.opcua.stack.core.UaException;
@@ -47,6 +51,7 @@ import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.DeadbandType;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import com.inductiveautomation.opcua.stack.core.types.structured.CreateMonitoredItemsRequest;
@@ -100,7 +105,7 @@ public class SubscriptionManager {
 
     private final Map<UInteger, StatusCode[]> acknowledgeResults = Maps.newConcurrentMap();
 
-    private final PublishQueue publishQueue = new PublishQueue();
+    private final PublishQueue publishQueue;
 
     private final Map<UInteger, Subscription> subscriptions = Maps.newConcurrentMap();
     private final List<Subscription> transferred = Lists.newCopyOnWriteArrayList();
@@ -109,8 +114,17 @@ public class SubscriptionManager {
     private final OpcUaServer server;
 
     public SubscriptionManager(Session session, OpcUaServer server) {
+        this(session, server, server.getExecutorService());
+    }
+
+    /**
+     * @param publishExecutor the {@link Executor} the {@link PublishQueue} delivers Publish requests on.
+     */
+    SubscriptionManager(Session session, OpcUaServer server, Executor publishExecutor) {
         this.session = session;
         this.server = server;
+
+        publishQueue = new PublishQueue(publishExecutor);
     }
 
     public Session getSession() {
@@ -354,7 +368,8 @@ public class SubscriptionManager {
                                         0.0,
                                         parameters.getQueueSize(),
                                         parameters.getDiscardOldest(),
-                                        parameters.getFilter()
+                                        parameters.getFilter(),
+                                        namespaceManager
                                 );
                             } else {
                                 throw new UaException(StatusCodes.Bad_AttributeIdInvalid);
@@ -373,7 +388,7 @@ public class SubscriptionManager {
                                 NumericRange.parse(indexRange);
                             }
 
-                            item = new MonitoredDataItem(
+                            MonitoredDataItem dataItem = new MonitoredDataItem(
                                     uint(subscription.nextItemId()),
                                     createRequest.getItemToMonitor(),
                                     createRequest.getMonitoringMode(),
@@ -384,6 +399,12 @@ public class SubscriptionManager {
                                     parameters.getQueueSize(),
                                     parameters.getDiscardOldest()
                             );
+
+                            if (dataItem.getDeadbandType() == DeadbandType.Percent) {
+                                dataItem.installEURange(getUaNode(nodeId));
+                            }
+
+                            item = dataItem;
                         }
 
                         createdItems.add(item);
@@ -496,23 +517,44 @@ public class SubscriptionManager {
                         if (samplingInterval < minSupportedSampleRate) samplingInterval = minSupportedSampleRate;
                         if (samplingInterval > maxSupportedSampleRate) samplingInterval = maxSupportedSampleRate;
 
-                        item.modify(
-                                timestamps,
-                                parameters.getClientHandle(),
-                                samplingInterval,
-                                parameters.getFilter(),
-                                parameters.getQueueSize(),
-                                parameters.getDiscardOldest()
-                        );
+                        try {
+                            if (item instanceof MonitoredDataItem) {
+                                ((MonitoredDataItem) item).modify(
+                                        timestamps,
+                                        parameters.getClientHandle(),
+                                        samplingInterval,
+                                        parameters.getFilter(),
+                                        parameters.getQueueSize(),
+                                        parameters.getDiscardOldest(),
+                                        getUaNode(item.getReadValueId().getNodeId())
+                                );
+                            } else {
+                                item.modify(
+                                        timestamps,
+                                        parameters.getClientHandle(),
+                                        samplingInterval,
+                                        parameters.getFilter(),
+                                        parameters.getQueueSize(),
+                                        parameters.getDiscardOldest()
+                                );
+                            }
 
-                        modifiedItems.add(item);
+                            modifiedItems.add(item);
 
-                        modifyResults[i] = new MonitoredItemModifyResult(
-                                StatusCode.GOOD,
-                                item.getSamplingInterval(),
-                                uint(item.getQueueSize()),
-                                item.getFilterResult()
-                        );
+                            modifyResults[i] = new MonitoredItemModifyResult(
+                                    StatusCode.GOOD,
+                                    item.getSamplingInterval(),
+                                    uint(item.getQueueSize()),
+                                    item.getFilterResult()
+                            );
+                        } catch (UaException e) {
+                            modifyResults[i] = new MonitoredItemModifyResult(
+                                    e.getStatusCode(),
+                                    item.getSamplingInterval(),
+                                    uint(item.getQueueSize()),
+                                    null
+                            );
+                        }
                     }
                 }
 
@@ -877,6 +919,20 @@ public class SubscriptionManager {
         });
     }
 
+    /**
+     * @return the {@link UaNode} identified by {@code nodeId}, or {@code null} if it doesn't belong to a
+     * {@link UaNamespace} or doesn't exist.
+     */
+    private UaNode getUaNode(NodeId nodeId) {
+        Namespace namespace = server.getNamespaceManager().getNamespace(nodeId.getNamespaceIndex());
+
+        if (namespace instanceof UaNamespace) {
+            return ((UaNamespace) namespace).getNode(nodeId).orElse(null);
+        } else {
+            return null;
+        }
+    }
+
     StatusCode[] getAcknowledgeResults(UInteger requestHandle) {
         return acknowledgeResults.remove(requestHandle);
     }
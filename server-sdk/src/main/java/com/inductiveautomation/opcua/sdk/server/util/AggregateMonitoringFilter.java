@@ -0,0 +1,344 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import com.inductiveautomation.opcua.stack.core.Identifiers;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+
+/**
+ * Computes an aggregate incrementally over the values sampled for a single item, one processing interval at a time.
+ * <p>
+ * Processing intervals are aligned to the filter's start time and follow the server's clock: the open interval is
+ * closed, and its result produced, by the first value received at or after its end. Items are sampled once every
+ * sampling interval whether or not their value changed, so results arrive no later than one sampling interval after
+ * their interval ends. Intervals with no good values produce a result with a {@link StatusCodes#Bad_NoData} status;
+ * intervals containing some bad values are {@link StatusCodes#Uncertain_DataSubNormal}.
+ * <p>
+ * A value is accounted at its SourceTime when that falls within the open interval. A value with an older SourceTime,
+ * e.g. one that hasn't changed since an earlier interval, is accounted at the start of the open interval; one with a
+ * SourceTime later than when it was received is accounted at the time it was received.
+ * <p>
+ * Time-weighted aggregates treat values as stepped, i.e. each value holds until the next one is sampled.
+ * <p>
+ * Not thread-safe; callers must synchronize.
+ */
+public class AggregateMonitoringFilter {
+
+    /**
+     * The maximum number of consecutive empty intervals reported after a gap in sampling; any more are skipped.
+     */
+    private static final int MAX_EMPTY_INTERVALS = 64;
+
+    private static final long TICKS_PER_MILLI = 10000L;
+
+    private final AggregateType aggregateType;
+    private final long startTime;
+    private final long processingInterval;
+    private final boolean treatUncertainAsBad;
+    private final LongSupplier clock;
+
+    private long intervalStart = Long.MIN_VALUE;
+    private long intervalEnd = Long.MIN_VALUE;
+
+    private int goodCount;
+    private int badCount;
+    private double sum;
+    private double min;
+    private double max;
+    private double first;
+    private double last;
+    private Variant minValue;
+    private Variant maxValue;
+    private Variant firstValue;
+    private Variant lastValue;
+    private double interpolatedStart;
+
+    private double area;
+    private long areaDuration;
+
+    private boolean hasPrevious = false;
+    private long previousTime;
+    private double previousValue;
+
+    /**
+     * @param aggregateType       the {@link AggregateType} to compute.
+     * @param startTime           the start of the first processing interval.
+     * @param processingInterval  the length of each processing interval, in milliseconds.
+     * @param treatUncertainAsBad {@code true} if values with an uncertain status should be ignored.
+     */
+    public AggregateMonitoringFilter(AggregateType aggregateType,
+                                     DateTime startTime,
+                                     double processingInterval,
+                                     boolean treatUncertainAsBad) {
+
+        this(aggregateType, startTime, processingInterval, treatUncertainAsBad, () -> DateTime.now().getUtcTime());
+    }
+
+    /**
+     * @param clock supplies the current time, in the same 100ns ticks as {@link DateTime#getUtcTime()}.
+     */
+    AggregateMonitoringFilter(AggregateType aggregateType,
+                              DateTime startTime,
+                              double processingInterval,
+                              boolean treatUncertainAsBad,
+                              LongSupplier clock) {
+
+        this.aggregateType = aggregateType;
+        this.startTime = startTime.getUtcTime();
+        this.processingInterval = Math.max(1L, (long) (processingInterval * TICKS_PER_MILLI));
+        this.treatUncertainAsBad = treatUncertainAsBad;
+        this.clock = clock;
+
+        resetInterval();
+    }
+
+    public AggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    /**
+     * Add a sampled value, first handing the result of every processing interval that has ended to {@code results}.
+     *
+     * @param value   the sampled value.
+     * @param results receives the result of each interval that has completed, oldest first.
+     */
+    public void update(DataValue value, Consumer<DataValue> results) {
+        long now = clock.getAsLong();
+
+        if (intervalStart == Long.MIN_VALUE) {
+            openInterval(alignedStart(now));
+        } else if (now >= intervalEnd) {
+            closeInterval(now, results);
+
+            int empty = 0;
+            while (now >= intervalEnd + processingInterval && empty++ < MAX_EMPTY_INTERVALS) {
+                openInterval(intervalEnd);
+                closeInterval(now, results);
+            }
+
+            openInterval(now >= intervalEnd + processingInterval ? alignedStart(now) : intervalEnd);
+        }
+
+        accumulate(timestamp(value, now), value);
+    }
+
+    private long alignedStart(long time) {
+        return startTime + Math.floorDiv(time - startTime, processingInterval) * processingInterval;
+    }
+
+    private void openInterval(long start) {
+        intervalStart = start;
+        intervalEnd = start + processingInterval;
+
+        resetInterval();
+    }
+
+    private void resetInterval() {
+        goodCount = 0;
+        badCount = 0;
+        sum = 0.0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        minValue = maxValue = firstValue = lastValue = null;
+        interpolatedStart = Double.NaN;
+        area = 0.0;
+        areaDuration = 0L;
+    }
+
+    private void accumulate(long time, DataValue value) {
+        Object o = value.getValue() != null ? value.getValue().getValue() : null;
+
+        if (!isGood(value.getStatusCode()) || !(o instanceof Number)) {
+            badCount++;
+            return;
+        }
+
+        double d = ((Number) o).doubleValue();
+
+        if (goodCount == 0) {
+            first = d;
+            firstValue = value.getValue();
+
+            if (time == intervalStart) {
+                interpolatedStart = d;
+            } else if (hasPrevious && previousTime < intervalStart) {
+                double slope = (d - previousValue) / (time - previousTime);
+                interpolatedStart = previousValue + slope * (intervalStart - previousTime);
+            }
+        }
+
+        goodCount++;
+        sum += d;
+        last = d;
+        lastValue = value.getValue();
+
+        if (d < min) {
+            min = d;
+            minValue = value.getValue();
+        }
+        if (d > max) {
+            max = d;
+            maxValue = value.getValue();
+        }
+
+        if (hasPrevious) {
+            integrateTo(time);
+        }
+
+        hasPrevious = true;
+        previousTime = time;
+        previousValue = d;
+    }
+
+    /**
+     * Add the area under the previous value, from when it was sampled (or the start of the interval) to {@code time}.
+     */
+    private void integrateTo(long time) {
+        long from = Math.max(previousTime, intervalStart);
+
+        if (time > from) {
+            area += previousValue * (time - from);
+            areaDuration += (time - from);
+        }
+    }
+
+    private void closeInterval(long now, Consumer<DataValue> results) {
+        if (hasPrevious) {
+            integrateTo(intervalEnd);
+
+            if (Double.isNaN(interpolatedStart) && previousTime < intervalStart) {
+                interpolatedStart = previousValue;
+            }
+        }
+
+        Variant result = result();
+        StatusCode status;
+
+        if (result == null) {
+            result = Variant.NULL_VALUE;
+            status = new StatusCode(StatusCodes.Bad_NoData);
+        } else if (badCount > 0) {
+            status = new StatusCode(StatusCodes.Uncertain_DataSubNormal);
+        } else {
+            status = StatusCode.GOOD;
+        }
+
+        results.accept(new DataValue(result, status, new DateTime(intervalStart), new DateTime(now)));
+    }
+
+    private Variant result() {
+        switch (aggregateType) {
+            case Count:
+                return new Variant(goodCount);
+
+            case Interpolative:
+                return Double.isNaN(interpolatedStart) ? null : new Variant(interpolatedStart);
+
+            case TimeAverage:
+                return areaDuration > 0 ? new Variant(area / areaDuration) : null;
+
+            case Total:
+                return areaDuration > 0 ? new Variant(area / (TICKS_PER_MILLI * 1000.0)) : null;
+
+            default:
+                break;
+        }
+
+        if (goodCount == 0) return null;
+
+        switch (aggregateType) {
+            case Average:
+                return new Variant(sum / goodCount);
+            case Minimum:
+                return minValue;
+            case Maximum:
+                return maxValue;
+            case Range:
+                return new Variant(max - min);
+            case Start:
+                return firstValue;
+            case End:
+                return lastValue;
+            case Delta:
+                return new Variant(last - first);
+            default:
+                throw new IllegalStateException("unhandled aggregate: " + aggregateType);
+        }
+    }
+
+    private boolean isGood(StatusCode status) {
+        return status == null || status.isGood() || (!treatUncertainAsBad && status.isUncertain());
+    }
+
+    /**
+     * @return the time {@code value} is accounted at: its SourceTime, kept within the open interval, no later than
+     * {@code now} and no earlier than the previous value.
+     */
+    private long timestamp(DataValue value, long now) {
+        long time = value.getSourceTime() != null ? Math.min(value.getSourceTime().getUtcTime(), now) : now;
+
+        time = Math.max(time, intervalStart);
+        if (hasPrevious) time = Math.max(time, previousTime);
+
+        return time;
+    }
+
+    public static enum AggregateType {
+        Interpolative(Identifiers.AggregateFunction_Interpolative),
+        Average(Identifiers.AggregateFunction_Average),
+        TimeAverage(Identifiers.AggregateFunction_TimeAverage),
+        Total(Identifiers.AggregateFunction_Total),
+        Minimum(Identifiers.AggregateFunction_Minimum),
+        Maximum(Identifiers.AggregateFunction_Maximum),
+        Range(Identifiers.AggregateFunction_Range),
+        Count(Identifiers.AggregateFunction_Count),
+        Start(Identifiers.AggregateFunction_Start),
+        End(Identifiers.AggregateFunction_End),
+        Delta(Identifiers.AggregateFunction_Delta);
+
+        private final NodeId nodeId;
+
+        AggregateType(NodeId nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        public NodeId getNodeId() {
+            return nodeId;
+        }
+
+        /**
+         * @param nodeId the NodeId of an AggregateFunction.
+         * @return the {@link AggregateType} identified by {@code nodeId}, or {@code null} if it isn't supported.
+         */
+        public static AggregateType from(NodeId nodeId) {
+            for (AggregateType type : values()) {
+                if (type.nodeId.equals(nodeId)) return type;
+            }
+
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A fixed-capacity FIFO queue that replaces its oldest element when full.
+ *
+ * @param <E> the element type.
+ */
+public interface BoundedQueue<E> {
+
+    /**
+     * Get the element at the specified index. This does not affect the next element to be returned.
+     *
+     * @param index The specified index.
+     * @return The element at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds...
+     */
+    E get(int index);
+
+    /**
+     * Set the element at the specified index. This does not affect the next element to be returned.
+     *
+     * @param index The specified index.
+     * @param e     The element to set.
+     * @throws IndexOutOfBoundsException if the index is out of bounds...
+     */
+    void set(int index, E e);
+
+    /**
+     * Add an element to the queue, replacing the oldest element in the queue if full.
+     *
+     * @param e element to add.
+     */
+    void add(E e);
+
+    /**
+     * @return The next (oldest) element in the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    E remove();
+
+    /**
+     * Clear the contents of this queue.
+     */
+    void clear();
+
+    /**
+     * @return {@code true} if the queue is empty (size == 0).
+     */
+    boolean isEmpty();
+
+    /**
+     * @return The maximum allowed size (number of elements).
+     */
+    int maxSize();
+
+    /**
+     * @return The current size (number of elements).
+     */
+    int size();
+
+}
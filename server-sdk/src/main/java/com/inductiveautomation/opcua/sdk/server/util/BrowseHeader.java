@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+
+/**
+ * The attributes of a node that a ReferenceDescription reports about the target of a reference, so a Browse can get
+ * them with a single lookup.
+ */
+public class BrowseHeader {
+
+    private final QualifiedName browseName;
+    private final LocalizedText displayName;
+    private final NodeClass nodeClass;
+    private final ExpandedNodeId typeDefinition;
+
+    public BrowseHeader(QualifiedName browseName,
+                        LocalizedText displayName,
+                        NodeClass nodeClass,
+                        ExpandedNodeId typeDefinition) {
+
+        this.browseName = browseName;
+        this.displayName = displayName;
+        this.nodeClass = nodeClass;
+        this.typeDefinition = typeDefinition;
+    }
+
+    public QualifiedName getBrowseName() {
+        return browseName;
+    }
+
+    public LocalizedText getDisplayName() {
+        return displayName;
+    }
+
+    public NodeClass getNodeClass() {
+        return nodeClass;
+    }
+
+    /**
+     * @return the target of the node's HasTypeDefinition reference, or {@link ExpandedNodeId#NULL_VALUE} if it
+     * doesn't have one.
+     */
+    public ExpandedNodeId getTypeDefinition() {
+        return typeDefinition;
+    }
+
+}
@@ -22,18 +22,95 @@ import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.DataChangeTrigger;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.DeadbandType;
 import com.inductiveautomation.opcua.stack.core.types.structured.DataChangeFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.Range;
 
+/**
+ * A {@link DataChangeFilter} compiled for repeated evaluation against the values sampled for a single item.
+ * <p>
+ * The trigger and deadband type are decoded once, when the filter is compiled. The deadband comparison is selected
+ * from the type of the first value compared and reused for as long as subsequent values have the same type, so the
+ * per-sample path doesn't allocate.
+ * <p>
+ * A Percent deadband is relative to the EURange of the item being monitored, which must be supplied via
+ * {@link #setEURange(Range)}; until it is, every value passes the deadband.
+ * <p>
+ * Not thread-safe; callers evaluating the same instance from multiple threads must synchronize.
+ */
 public class DataChangeMonitoringFilter {
 
+    private final DataChangeTrigger trigger;
+    private final DeadbandType deadbandType;
+    private final double deadbandValue;
+
+    /**
+     * The deadband in the units of the value; {@link Double#NaN} if there isn't one (yet).
+     */
+    private volatile double absoluteDeadband;
+
+    private Class<?> comparisonType;
+    private DeadbandComparison comparison;
+
+    private DataChangeMonitoringFilter(DataChangeTrigger trigger, DeadbandType deadbandType, double deadbandValue) {
+        this.trigger = trigger;
+        this.deadbandType = deadbandType;
+        this.deadbandValue = deadbandValue;
+
+        absoluteDeadband = (deadbandType == DeadbandType.Absolute) ? deadbandValue : Double.NaN;
+    }
+
+    /**
+     * @param filter the {@link DataChangeFilter} to compile.
+     * @return a {@link DataChangeMonitoringFilter} that evaluates {@code filter}.
+     */
+    public static DataChangeMonitoringFilter compile(DataChangeFilter filter) {
+        DeadbandType deadbandType = DeadbandType.from(filter.getDeadbandType().intValue());
+
+        return new DataChangeMonitoringFilter(
+                filter.getTrigger(),
+                deadbandType != null ? deadbandType : DeadbandType.None,
+                filter.getDeadbandValue()
+        );
+    }
+
+    /**
+     * Compile {@code filter} and evaluate it once. Prefer {@link #compile(DataChangeFilter)} when the same filter is
+     * evaluated repeatedly.
+     */
     public static boolean filter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
-        return triggerFilter(lastValue, currentValue, filter) && deadbandFilter(lastValue, currentValue, filter);
+        return compile(filter).filter(lastValue, currentValue);
+    }
+
+    public DeadbandType getDeadbandType() {
+        return deadbandType;
     }
 
-    private static boolean triggerFilter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
+    /**
+     * Set the EURange a Percent deadband is relative to. Has no effect on other deadband types.
+     *
+     * @param euRange the EURange of the item being monitored, or {@code null} if it has none.
+     */
+    public void setEURange(Range euRange) {
+        if (deadbandType != DeadbandType.Percent) return;
+
+        if (euRange != null && euRange.getLow() != null && euRange.getHigh() != null) {
+            absoluteDeadband = (deadbandValue / 100.0) * Math.abs(euRange.getHigh() - euRange.getLow());
+        } else {
+            absoluteDeadband = Double.NaN;
+        }
+    }
+
+    /**
+     * @param lastValue    the last value that passed the filter, or {@code null} if there is none.
+     * @param currentValue the value to evaluate.
+     * @return {@code true} if {@code currentValue} passes the filter.
+     */
+    public boolean filter(DataValue lastValue, DataValue currentValue) {
         if (lastValue == null) return true;
 
-        DataChangeTrigger trigger = filter.getTrigger();
+        return triggerFilter(lastValue, currentValue) && deadbandFilter(lastValue, currentValue);
+    }
 
+    private boolean triggerFilter(DataValue lastValue, DataValue currentValue) {
         if (trigger == DataChangeTrigger.Status) {
             return statusChanged(lastValue, currentValue);
         } else if (trigger == DataChangeTrigger.StatusValue) {
@@ -46,57 +123,30 @@ public class DataChangeMonitoringFilter {
         }
     }
 
-    private static boolean deadbandFilter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
-        if (lastValue == null) return true;
-
-        int index = filter.getDeadbandType().intValue();
-        if (index < 0 || index >= DeadbandType.values().length) return true;
-        DeadbandType deadbandType = DeadbandType.values()[index];
+    private boolean deadbandFilter(DataValue lastValue, DataValue currentValue) {
+        double deadband = absoluteDeadband;
 
-        if (deadbandType != DeadbandType.Absolute) return true;
+        if (Double.isNaN(deadband)) return true;
 
         Object last = lastValue.getValue().getValue();
         Object current = currentValue.getValue().getValue();
 
-        if (last == null || current == null) {
-            return true;
-        } else if (last.getClass().isArray() && current.getClass().isArray()) {
-            return compareArrayDeadband(last, current, filter.getDeadbandValue());
-        } else {
-            return compareScalarDeadband(last, current, filter.getDeadbandValue());
-        }
-    }
-
-    private static boolean compareArrayDeadband(Object last, Object current, double deadband) {
-        Object[] lastA = Object[].class.cast(last);
-        Object[] currentA = Object[].class.cast(current);
-
-        if (lastA.length != currentA.length) {
-            return true;
-        } else {
-            boolean exceeds = false;
-
-            for (int i = 0; i < lastA.length; i++) {
-                exceeds = exceeds || exceedsDeadband(lastA[i], currentA[i], deadband);
-            }
+        if (last == null || current == null) return true;
 
-            return exceeds;
-        }
+        return comparison(last.getClass(), current.getClass()).exceeds(last, current, deadband);
     }
 
-    private static boolean compareScalarDeadband(Object last, Object current, double deadband) {
-        return exceedsDeadband(last, current, deadband);
-    }
-
-    private static boolean exceedsDeadband(Object last, Object current, double deadband) {
-        try {
-            double lastD = Number.class.cast(last).doubleValue();
-            double currentD = Number.class.cast(current).doubleValue();
+    private DeadbandComparison comparison(Class<?> lastType, Class<?> currentType) {
+        if (lastType != currentType) {
+            return DeadbandComparison.of(null);
+        }
 
-            return Math.abs(lastD - currentD) > deadband;
-        } catch (Throwable t) {
-            return true;
+        if (currentType != comparisonType) {
+            comparison = DeadbandComparison.of(currentType);
+            comparisonType = currentType;
         }
+
+        return comparison;
     }
 
     private static boolean statusChanged(DataValue lastValue, DataValue currentValue) {
@@ -111,4 +161,147 @@ public class DataChangeMonitoringFilter {
         return !Objects.equals(lastValue.getSourceTime(), currentValue.getSourceTime());
     }
 
+    private static boolean exceeds(double last, double current, double deadband) {
+        return Math.abs(last - current) > deadband;
+    }
+
+    /**
+     * Compares two values of the same type against a deadband. Array comparisons exceed the deadband as
+     * soon as the lengths differ or any one element does.
+     */
+    private static enum DeadbandComparison {
+        Scalar {
+            boolean exceeds(Object last, Object current, double deadband) {
+                if (last instanceof Number && current instanceof Number) {
+                    return DataChangeMonitoringFilter.exceeds(
+                            ((Number) last).doubleValue(), ((Number) current).doubleValue(), deadband);
+                } else {
+                    return true;
+                }
+            }
+        },
+        DoubleScalar {
+            boolean exceeds(Object last, Object current, double deadband) {
+                return DataChangeMonitoringFilter.exceeds((Double) last, (Double) current, deadband);
+            }
+        },
+        ObjectArray {
+            boolean exceeds(Object last, Object current, double deadband) {
+                Object[] lastA = (Object[]) last;
+                Object[] currentA = (Object[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (Scalar.exceeds(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+        DoubleArray {
+            boolean exceeds(Object last, Object current, double deadband) {
+                double[] lastA = (double[]) last;
+                double[] currentA = (double[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (DataChangeMonitoringFilter.exceeds(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+        FloatArray {
+            boolean exceeds(Object last, Object current, double deadband) {
+                float[] lastA = (float[]) last;
+                float[] currentA = (float[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (DataChangeMonitoringFilter.exceeds(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+        LongArray {
+            boolean exceeds(Object last, Object current, double deadband) {
+                long[] lastA = (long[]) last;
+                long[] currentA = (long[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (DataChangeMonitoringFilter.exceeds(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+        IntArray {
+            boolean exceeds(Object last, Object current, double deadband) {
+                int[] lastA = (int[]) last;
+                int[] currentA = (int[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (DataChangeMonitoringFilter.exceeds(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+        ShortArray {
+            boolean exceeds(Object last, Object current, double deadband) {
+                short[] lastA = (short[]) last;
+                short[] currentA = (short[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (DataChangeMonitoringFilter.exceeds(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+        ByteArray {
+            boolean exceeds(Object last, Object current, double deadband) {
+                byte[] lastA = (byte[]) last;
+                byte[] currentA = (byte[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (DataChangeMonitoringFilter.exceeds(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        };
+
+        abstract boolean exceeds(Object last, Object current, double deadband);
+
+        /**
+         * @param type the type of both values being compared, or {@code null} if their types differ.
+         */
+        static DeadbandComparison of(Class<?> type) {
+            if (type == null) return Scalar;
+            if (type == Double.class) return DoubleScalar;
+            if (type == double[].class) return DoubleArray;
+            if (type == float[].class) return FloatArray;
+            if (type == long[].class) return LongArray;
+            if (type == int[].class) return IntArray;
+            if (type == short[].class) return ShortArray;
+            if (type == byte[].class) return ByteArray;
+            if (Object[].class.isAssignableFrom(type)) return ObjectArray;
+
+            return Scalar;
+        }
+    }
+
 }
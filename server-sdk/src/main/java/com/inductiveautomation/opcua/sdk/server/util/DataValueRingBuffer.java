@@ -0,0 +1,320 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import java.util.NoSuchElementException;
+
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * A {@link BoundedQueue} of {@link DataValue}s holding scalar numeric (or null) values, stored in parallel primitive
+ * arrays instead of as {@link DataValue} object graphs.
+ * <p>
+ * {@link DataValue}s are only materialized when they are read back out, so every {@link #get(int)} and
+ * {@link #remove()} allocates; the buffer pays off when each value is removed once, to be reported, and it holds
+ * enough of them that the object graphs it avoids outweigh its five arrays. Values that can't be stored compactly (see
+ * {@link #accepts(DataValue)}) are rejected; callers should switch to the {@link RingBuffer} returned by
+ * {@link #inflate()} first.
+ */
+public class DataValueRingBuffer implements BoundedQueue<DataValue> {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private int read = 0;
+    private int write = 0;
+    private int count = 0;
+
+    private final byte[] types;
+    private final long[] values;
+    private final int[] statusCodes;
+    private final long[] sourceTimes;
+    private final long[] serverTimes;
+
+    private final int maxSize;
+
+    public DataValueRingBuffer(int maxSize) {
+        this.maxSize = maxSize;
+
+        types = new byte[maxSize];
+        values = new long[maxSize];
+        statusCodes = new int[maxSize];
+        sourceTimes = new long[maxSize];
+        serverTimes = new long[maxSize];
+    }
+
+    /**
+     * @param value the {@link DataValue} to check.
+     * @return {@code true} if {@code value} can be stored in this buffer.
+     */
+    public boolean accepts(DataValue value) {
+        return ScalarType.of(value) != null;
+    }
+
+    /**
+     * @return a {@link RingBuffer} with the same capacity and contents as this buffer.
+     */
+    public RingBuffer<DataValue> inflate() {
+        RingBuffer<DataValue> buffer = new RingBuffer<>(maxSize);
+
+        for (int i = 0; i < count; i++) {
+            buffer.add(get(i));
+        }
+
+        return buffer;
+    }
+
+    @Override
+    public DataValue get(int index) {
+        if (index >= count) {
+            throw new IndexOutOfBoundsException("index=" + index);
+        } else {
+            return decode((read + index) % maxSize);
+        }
+    }
+
+    @Override
+    public void set(int index, DataValue value) {
+        if (index >= count) {
+            throw new IndexOutOfBoundsException("index=" + index);
+        } else {
+            encode((read + index) % maxSize, value);
+        }
+    }
+
+    @Override
+    public void add(DataValue value) {
+        encode(write, value);
+        write = (write + 1) % maxSize;
+
+        if (count == maxSize) {
+            read = (read + 1) % maxSize;
+        } else {
+            count += 1;
+        }
+    }
+
+    @Override
+    public DataValue remove() {
+        if (count <= 0) {
+            throw new NoSuchElementException();
+        } else {
+            DataValue value = decode(read);
+            read = (read + 1) % maxSize;
+            count -= 1;
+            return value;
+        }
+    }
+
+    @Override
+    public void clear() {
+        read = write = count = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    private void encode(int slot, DataValue value) {
+        ScalarType type = ScalarType.of(value);
+
+        if (type == null) {
+            throw new IllegalArgumentException("value cannot be stored compactly: " + value);
+        }
+
+        types[slot] = (byte) type.ordinal();
+        values[slot] = type.encode(value.getValue().getValue());
+        statusCodes[slot] = (int) value.getStatusCode().getValue();
+        sourceTimes[slot] = encodeTime(value.getSourceTime());
+        serverTimes[slot] = encodeTime(value.getServerTime());
+    }
+
+    private DataValue decode(int slot) {
+        ScalarType type = ScalarType.VALUES[types[slot]];
+
+        return new DataValue(
+                type.decode(values[slot]),
+                new StatusCode(statusCodes[slot] & 0xFFFFFFFFL),
+                decodeTime(sourceTimes[slot]),
+                decodeTime(serverTimes[slot])
+        );
+    }
+
+    private static long encodeTime(DateTime time) {
+        return time != null ? time.getUtcTime() : NULL_TIME;
+    }
+
+    private static DateTime decodeTime(long time) {
+        return time != NULL_TIME ? new DateTime(time) : null;
+    }
+
+    private static enum ScalarType {
+        Null {
+            long encode(Object o) {
+                return 0L;
+            }
+
+            Variant decode(long bits) {
+                return Variant.NULL_VALUE;
+            }
+        },
+        Boolean {
+            long encode(Object o) {
+                return ((java.lang.Boolean) o) ? 1L : 0L;
+            }
+
+            Variant decode(long bits) {
+                return new Variant(bits != 0L);
+            }
+        },
+        SByte {
+            long encode(Object o) {
+                return (java.lang.Byte) o;
+            }
+
+            Variant decode(long bits) {
+                return new Variant((byte) bits);
+            }
+        },
+        Int16 {
+            long encode(Object o) {
+                return (java.lang.Short) o;
+            }
+
+            Variant decode(long bits) {
+                return new Variant((short) bits);
+            }
+        },
+        Int32 {
+            long encode(Object o) {
+                return (java.lang.Integer) o;
+            }
+
+            Variant decode(long bits) {
+                return new Variant((int) bits);
+            }
+        },
+        Int64 {
+            long encode(Object o) {
+                return (java.lang.Long) o;
+            }
+
+            Variant decode(long bits) {
+                return new Variant(bits);
+            }
+        },
+        Byte {
+            long encode(Object o) {
+                return ((UByte) o).longValue();
+            }
+
+            Variant decode(long bits) {
+                return new Variant(ubyte((int) bits));
+            }
+        },
+        UInt16 {
+            long encode(Object o) {
+                return ((UShort) o).longValue();
+            }
+
+            Variant decode(long bits) {
+                return new Variant(ushort((int) bits));
+            }
+        },
+        UInt32 {
+            long encode(Object o) {
+                return ((UInteger) o).longValue();
+            }
+
+            Variant decode(long bits) {
+                return new Variant(uint(bits));
+            }
+        },
+        Float {
+            long encode(Object o) {
+                return java.lang.Float.floatToRawIntBits((java.lang.Float) o);
+            }
+
+            Variant decode(long bits) {
+                return new Variant(java.lang.Float.intBitsToFloat((int) bits));
+            }
+        },
+        Double {
+            long encode(Object o) {
+                return java.lang.Double.doubleToRawLongBits((java.lang.Double) o);
+            }
+
+            Variant decode(long bits) {
+                return new Variant(java.lang.Double.longBitsToDouble(bits));
+            }
+        };
+
+        private static final ScalarType[] VALUES = values();
+
+        abstract long encode(Object o);
+
+        abstract Variant decode(long bits);
+
+        /**
+         * @return the {@link ScalarType} {@code value} can be stored as, or {@code null} if it can't be stored
+         * compactly.
+         */
+        static ScalarType of(DataValue value) {
+            if (value == null || value.getValue() == null || value.getStatusCode() == null) return null;
+
+            Object o = value.getValue().getValue();
+
+            if (o == null) return Null;
+
+            Class<?> clazz = o.getClass();
+
+            if (clazz == java.lang.Double.class) return Double;
+            if (clazz == java.lang.Float.class) return Float;
+            if (clazz == java.lang.Integer.class) return Int32;
+            if (clazz == java.lang.Boolean.class) return Boolean;
+            if (clazz == java.lang.Long.class) return Int64;
+            if (clazz == java.lang.Short.class) return Int16;
+            if (clazz == java.lang.Byte.class) return SByte;
+            if (clazz == UInteger.class) return UInt32;
+            if (clazz == UShort.class) return UInt16;
+            if (clazz == UByte.class) return Byte;
+
+            return null;
+        }
+    }
+
+}
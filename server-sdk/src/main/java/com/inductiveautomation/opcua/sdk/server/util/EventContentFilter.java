@@ -0,0 +1,625 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.inductiveautomation.opcua.sdk.core.AttributeIds;
+import com.inductiveautomation.opcua.sdk.core.events.BaseEventType;
+import com.inductiveautomation.opcua.sdk.server.NamespaceManager;
+import com.inductiveautomation.opcua.sdk.server.TypeHierarchy;
+import com.inductiveautomation.opcua.sdk.server.util.EventFieldSelector.EventField;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.FilterOperator;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilter;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterElement;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterElementResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ContentFilterResult;
+import com.inductiveautomation.opcua.stack.core.types.structured.ElementOperand;
+import com.inductiveautomation.opcua.stack.core.types.structured.LiteralOperand;
+import com.inductiveautomation.opcua.stack.core.types.structured.SimpleAttributeOperand;
+
+/**
+ * The where clause of an EventFilter, compiled into a flat array of elements evaluated against each event.
+ * <p>
+ * Operands are resolved once, when the filter is compiled: literals are converted to the form they're compared in,
+ * Like patterns are compiled, and SimpleAttributeOperands become {@link EventField} accessors shared by every element
+ * selecting the same field. OfType is checked against the {@link TypeHierarchy} as each event is evaluated, so types
+ * added or removed after the filter was compiled are taken into account.
+ * While an event is evaluated each field is read at most once, each element is evaluated at most once, and
+ * And/Or short-circuit.
+ * <p>
+ * Elements evaluate to TRUE, FALSE or NULL as described in Part 4; an event passes the filter only if the first
+ * element evaluates to TRUE.
+ * <p>
+ * Not thread-safe; callers must synchronize.
+ */
+public class EventContentFilter {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte NULL = 3;
+
+    /**
+     * Returned by {@link #compare(Object, Object)} when its arguments can't be compared.
+     */
+    private static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+    private static final Object UNREAD = new Object();
+
+    private static final EventContentFilter PASS = new EventContentFilter(
+            new Element[0], new EventField[0], new ContentFilterElementResult[0], null);
+
+    private final Element[] elements;
+    private final EventField[] fields;
+    private final ContentFilterElementResult[] elementResults;
+    private final TypeHierarchy typeHierarchy;
+
+    private final byte[] results;
+    private final Object[] values;
+
+    private EventContentFilter(Element[] elements,
+                               EventField[] fields,
+                               ContentFilterElementResult[] elementResults,
+                               TypeHierarchy typeHierarchy) {
+
+        this.elements = elements;
+        this.fields = fields;
+        this.elementResults = elementResults;
+        this.typeHierarchy = typeHierarchy;
+
+        results = new byte[elements.length];
+        values = new Object[fields.length];
+    }
+
+    /**
+     * @param whereClause      the where clause of an EventFilter; may be {@code null} or empty.
+     * @param namespaceManager the {@link NamespaceManager} whose {@link TypeHierarchy} OfType is checked against.
+     * @return an {@link EventContentFilter} for {@code whereClause}. Check {@link #isValid()} before using it.
+     */
+    public static EventContentFilter compile(ContentFilter whereClause, NamespaceManager namespaceManager) {
+        ContentFilterElement[] filterElements = whereClause != null ? whereClause.getElements() : null;
+
+        if (filterElements == null || filterElements.length == 0) return PASS;
+
+        Map<List<QualifiedName>, Integer> fieldIndices = Maps.newLinkedHashMap();
+        List<EventField> fields = Lists.newArrayList();
+
+        Element[] elements = new Element[filterElements.length];
+        ContentFilterElementResult[] elementResults = new ContentFilterElementResult[filterElements.length];
+
+        for (int i = 0; i < filterElements.length; i++) {
+            ContentFilterElement filterElement = filterElements[i];
+            FilterOperator operator = filterElement.getFilterOperator();
+            ExtensionObject[] filterOperands = filterElement.getFilterOperands();
+            if (filterOperands == null) filterOperands = new ExtensionObject[0];
+
+            Operand[] operands = new Operand[filterOperands.length];
+            StatusCode[] operandResults = new StatusCode[filterOperands.length];
+            boolean operandsValid = true;
+
+            for (int j = 0; j < filterOperands.length; j++) {
+                Object operand = filterOperands[j] != null ? filterOperands[j].getObject() : null;
+
+                operands[j] = operand(operand, i, filterElements.length, fieldIndices, fields);
+                operandResults[j] = operands[j] != null ?
+                        StatusCode.GOOD : new StatusCode(StatusCodes.Bad_FilterOperandInvalid);
+
+                operandsValid &= operands[j] != null;
+            }
+
+            StatusCode status;
+
+            if (!operandsValid) {
+                status = new StatusCode(StatusCodes.Bad_FilterOperandInvalid);
+            } else {
+                elements[i] = element(operator, operands);
+
+                if (elements[i] != null) {
+                    status = StatusCode.GOOD;
+                } else if (operator == null || !isSupported(operator)) {
+                    status = new StatusCode(StatusCodes.Bad_FilterOperatorUnsupported);
+                } else if (!operandCountValid(operator, operands.length)) {
+                    status = new StatusCode(StatusCodes.Bad_FilterOperandCountMismatch);
+                } else {
+                    status = new StatusCode(StatusCodes.Bad_FilterOperandInvalid);
+                }
+            }
+
+            elementResults[i] = new ContentFilterElementResult(
+                    status, operandResults, new DiagnosticInfo[0]);
+        }
+
+        return new EventContentFilter(elements, fields.toArray(new EventField[fields.size()]), elementResults,
+                namespaceManager.getTypeHierarchy());
+    }
+
+    /**
+     * @return {@code true} if every element of the where clause compiled.
+     */
+    public boolean isValid() {
+        for (ContentFilterElementResult result : elementResults) {
+            if (!result.getStatusCode().isGood()) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @return event types such that every event this filter can pass is of one of them or one of their subtypes, or
+     * {@code null} if it could pass an event of any type. Derived from OfType elements combined through And/Or from the
+     * first element.
+     */
+    public Set<NodeId> getEventTypes() {
+        return elements.length > 0 ? eventTypes(0) : null;
+    }
+
+    private Set<NodeId> eventTypes(int index) {
+        Element element = elements[index];
+
+        switch (element.operator) {
+            case OfType:
+                return ImmutableSet.of(element.typeId);
+
+            case And: {
+                // Either side restricts the types enough; the filter itself is evaluated for each event delivered.
+                Set<NodeId> left = operandEventTypes(element.operands[0]);
+
+                return left != null ? left : operandEventTypes(element.operands[1]);
+            }
+
+            case Or: {
+                Set<NodeId> left = operandEventTypes(element.operands[0]);
+                Set<NodeId> right = operandEventTypes(element.operands[1]);
+
+                if (left != null && right != null) {
+                    return ImmutableSet.copyOf(Sets.union(left, right));
+                } else {
+                    return null;
+                }
+            }
+
+            default:
+                return null;
+        }
+    }
+
+    private Set<NodeId> operandEventTypes(Operand operand) {
+        return operand.kind == Operand.ELEMENT ? eventTypes(operand.index) : null;
+    }
+
+    /**
+     * @return the {@link ContentFilterResult} to report for this filter.
+     */
+    public ContentFilterResult getContentFilterResult() {
+        return new ContentFilterResult(elementResults, new DiagnosticInfo[0]);
+    }
+
+    /**
+     * @param event the event to evaluate.
+     * @return {@code true} if {@code event} passes the filter.
+     */
+    public boolean evaluate(BaseEventType event) {
+        if (elements.length == 0) return true;
+
+        Arrays.fill(results, UNKNOWN);
+        Arrays.fill(values, UNREAD);
+
+        try {
+            return evaluate(0, event) == TRUE;
+        } finally {
+            // Don't hold on to the event's values until the next one arrives.
+            Arrays.fill(values, null);
+        }
+    }
+
+    private byte evaluate(int index, BaseEventType event) {
+        byte result = results[index];
+
+        if (result == UNKNOWN) {
+            result = evaluate(elements[index], event);
+            results[index] = result;
+        }
+
+        return result;
+    }
+
+    private byte evaluate(Element element, BaseEventType event) {
+        Operand[] operands = element.operands;
+
+        switch (element.operator) {
+            case And: {
+                byte left = bool(operands[0], event);
+                if (left == FALSE) return FALSE;
+                byte right = bool(operands[1], event);
+                if (right == FALSE) return FALSE;
+                return (left == TRUE && right == TRUE) ? TRUE : NULL;
+            }
+
+            case Or: {
+                byte left = bool(operands[0], event);
+                if (left == TRUE) return TRUE;
+                byte right = bool(operands[1], event);
+                if (right == TRUE) return TRUE;
+                return (left == FALSE && right == FALSE) ? FALSE : NULL;
+            }
+
+            case Not: {
+                byte b = bool(operands[0], event);
+                return b == TRUE ? FALSE : (b == FALSE ? TRUE : NULL);
+            }
+
+            case IsNull:
+                return value(operands[0], event) == null ? TRUE : FALSE;
+
+            case OfType: {
+                NodeId eventType = event.getEventType();
+                if (eventType == null) return FALSE;
+
+                return (eventType.equals(element.typeId) || typeHierarchy.isSubtype(eventType, element.typeId)) ?
+                        TRUE : FALSE;
+            }
+
+            case Like: {
+                Object value = value(operands[0], event);
+                if (value == null) return NULL;
+                return (value instanceof String && element.pattern.matcher((String) value).matches()) ? TRUE : FALSE;
+            }
+
+            case InList: {
+                Object value = value(operands[0], event);
+                if (value == null) return NULL;
+
+                for (int i = 1; i < operands.length; i++) {
+                    if (compare(value, value(operands[i], event)) == 0) return TRUE;
+                }
+
+                return FALSE;
+            }
+
+            case Between: {
+                Object value = value(operands[0], event);
+                Object low = value(operands[1], event);
+                Object high = value(operands[2], event);
+                if (value == null || low == null || high == null) return NULL;
+
+                int c0 = compare(value, low);
+                int c1 = compare(value, high);
+                if (c0 == INCOMPARABLE || c1 == INCOMPARABLE) return FALSE;
+
+                return (c0 >= 0 && c1 <= 0) ? TRUE : FALSE;
+            }
+
+            default: {
+                Object left = value(operands[0], event);
+                Object right = value(operands[1], event);
+                if (left == null || right == null) return NULL;
+
+                int c = compare(left, right);
+                if (c == INCOMPARABLE) return FALSE;
+
+                switch (element.operator) {
+                    case Equals:
+                        return c == 0 ? TRUE : FALSE;
+                    case GreaterThan:
+                        return c > 0 ? TRUE : FALSE;
+                    case GreaterThanOrEqual:
+                        return c >= 0 ? TRUE : FALSE;
+                    case LessThan:
+                        return c < 0 ? TRUE : FALSE;
+                    case LessThanOrEqual:
+                        return c <= 0 ? TRUE : FALSE;
+                    default:
+                        throw new IllegalStateException("unhandled operator: " + element.operator);
+                }
+            }
+        }
+    }
+
+    private byte bool(Operand operand, BaseEventType event) {
+        if (operand.kind == Operand.ELEMENT) {
+            return evaluate(operand.index, event);
+        }
+
+        Object value = value(operand, event);
+
+        if (value instanceof Boolean) {
+            return ((Boolean) value) ? TRUE : FALSE;
+        } else {
+            return NULL;
+        }
+    }
+
+    private Object value(Operand operand, BaseEventType event) {
+        switch (operand.kind) {
+            case Operand.FIELD: {
+                Object value = values[operand.index];
+
+                if (value == UNREAD) {
+                    value = normalize(fields[operand.index].get(event));
+                    values[operand.index] = value;
+                }
+
+                return value;
+            }
+
+            case Operand.ELEMENT: {
+                byte result = evaluate(operand.index, event);
+                return result == TRUE ? Boolean.TRUE : (result == FALSE ? Boolean.FALSE : null);
+            }
+
+            default:
+                return operand.literal;
+        }
+    }
+
+    /**
+     * @return the sign of the comparison of {@code a} and {@code b}, or {@link #INCOMPARABLE}.
+     */
+    private static int compare(Object a, Object b) {
+        if (a instanceof Number && b instanceof Number) {
+            Number na = (Number) a;
+            Number nb = (Number) b;
+
+            if (isIntegral(na) && isIntegral(nb)) {
+                return Long.compare(na.longValue(), nb.longValue());
+            } else {
+                return Integer.signum(Double.compare(na.doubleValue(), nb.doubleValue()));
+            }
+        } else if (a instanceof String && b instanceof String) {
+            return Integer.signum(((String) a).compareTo((String) b));
+        } else if (a instanceof DateTime && b instanceof DateTime) {
+            return Long.compare(((DateTime) a).getUtcTime(), ((DateTime) b).getUtcTime());
+        } else {
+            return a.equals(b) ? 0 : INCOMPARABLE;
+        }
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte ||
+                n instanceof UInteger || n instanceof UShort || n instanceof UByte;
+    }
+
+    /**
+     * Event fields and literals are compared in the same form; LocalizedTexts (e.g. the Message field) compare as
+     * their text.
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof LocalizedText) {
+            return ((LocalizedText) value).getText();
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * @return the compiled {@link Operand}, or {@code null} if {@code operand} is invalid.
+     */
+    private static Operand operand(Object operand,
+                                   int elementIndex,
+                                   int elementCount,
+                                   Map<List<QualifiedName>, Integer> fieldIndices,
+                                   List<EventField> fields) {
+
+        if (operand instanceof LiteralOperand) {
+            LiteralOperand literal = (LiteralOperand) operand;
+            Object value = literal.getValue() != null ? literal.getValue().getValue() : null;
+
+            return new Operand(Operand.LITERAL, normalize(value), -1);
+        } else if (operand instanceof ElementOperand) {
+            UInteger index = ((ElementOperand) operand).getIndex();
+
+            // Elements may only refer to elements after themselves, so there can't be any cycles.
+            if (index == null || index.longValue() <= elementIndex || index.longValue() >= elementCount) {
+                return null;
+            }
+
+            return new Operand(Operand.ELEMENT, null, index.intValue());
+        } else if (operand instanceof SimpleAttributeOperand) {
+            SimpleAttributeOperand sao = (SimpleAttributeOperand) operand;
+            QualifiedName[] browsePath = sao.getBrowsePath();
+            int attributeId = sao.getAttributeId() != null ? sao.getAttributeId().intValue() : 0;
+
+            if (browsePath == null || browsePath.length == 0 || attributeId != AttributeIds.Value) {
+                return null;
+            }
+
+            List<QualifiedName> key = Arrays.asList(browsePath);
+            Integer index = fieldIndices.get(key);
+
+            if (index == null) {
+                EventField field = EventFieldSelector.field(browsePath);
+                if (field == null) return null;
+
+                fields.add(field);
+                fieldIndices.put(key, index = fields.size() - 1);
+            }
+
+            return new Operand(Operand.FIELD, null, index);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @return the compiled {@link Element}, or {@code null} if the operator is unsupported or its operands are
+     * invalid for it.
+     */
+    private static Element element(FilterOperator operator, Operand[] operands) {
+        if (operator == null || !isSupported(operator) || !operandCountValid(operator, operands.length)) {
+            return null;
+        }
+
+        switch (operator) {
+            case OfType: {
+                Object typeId = operands[0].literal;
+                if (operands[0].kind != Operand.LITERAL || !(typeId instanceof NodeId)) return null;
+
+                return new Element(operator, operands, null, (NodeId) typeId);
+            }
+
+            case Like: {
+                Object pattern = operands[1].literal;
+                if (operands[1].kind != Operand.LITERAL || !(pattern instanceof String)) return null;
+
+                return new Element(operator, operands, likePattern((String) pattern), null);
+            }
+
+            default:
+                return new Element(operator, operands, null, null);
+        }
+    }
+
+    private static boolean isSupported(FilterOperator operator) {
+        switch (operator) {
+            case Equals:
+            case IsNull:
+            case GreaterThan:
+            case LessThan:
+            case GreaterThanOrEqual:
+            case LessThanOrEqual:
+            case Like:
+            case Not:
+            case Between:
+            case InList:
+            case And:
+            case Or:
+            case OfType:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean operandCountValid(FilterOperator operator, int count) {
+        switch (operator) {
+            case IsNull:
+            case Not:
+            case OfType:
+                return count == 1;
+            case Between:
+                return count == 3;
+            case InList:
+                return count >= 2;
+            default:
+                return count == 2;
+        }
+    }
+
+    /**
+     * Translate a Like pattern (%, _, [list], [!list] and [a-z] wildcards; other characters match themselves) into
+     * a regular expression.
+     */
+    private static Pattern likePattern(String like) {
+        StringBuilder regex = new StringBuilder();
+
+        for (int i = 0; i < like.length(); i++) {
+            char c = like.charAt(i);
+
+            switch (c) {
+                case '%':
+                    regex.append(".*");
+                    break;
+
+                case '_':
+                    regex.append('.');
+                    break;
+
+                case '[': {
+                    int end = like.indexOf(']', i + 1);
+
+                    if (end > i + 1) {
+                        String list = like.substring(i + 1, end);
+                        boolean negated = list.startsWith("!") || list.startsWith("^");
+                        if (negated) list = list.substring(1);
+
+                        regex.append(negated ? "[^" : "[");
+                        for (char lc : list.toCharArray()) {
+                            if (lc == '\\' || lc == '[' || lc == ']' || lc == '&' || lc == '^') regex.append('\\');
+                            regex.append(lc);
+                        }
+                        regex.append(']');
+
+                        i = end;
+                    } else {
+                        regex.append(Pattern.quote("["));
+                    }
+                    break;
+                }
+
+                default:
+                    regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static final class Element {
+
+        private final FilterOperator operator;
+        private final Operand[] operands;
+        private final Pattern pattern;
+        private final NodeId typeId;
+
+        private Element(FilterOperator operator, Operand[] operands, Pattern pattern, NodeId typeId) {
+            this.operator = operator;
+            this.operands = operands;
+            this.pattern = pattern;
+            this.typeId = typeId;
+        }
+
+    }
+
+    private static final class Operand {
+
+        private static final int LITERAL = 0;
+        private static final int FIELD = 1;
+        private static final int ELEMENT = 2;
+
+        private final int kind;
+        private final Object literal;
+        private final int index;
+
+        private Operand(int kind, Object literal, int index) {
+            this.kind = kind;
+            this.literal = literal;
+            this.index = index;
+        }
+
+    }
+
+}
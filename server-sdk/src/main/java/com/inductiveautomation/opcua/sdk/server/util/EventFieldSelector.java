@@ -0,0 +1,170 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import com.inductiveautomation.opcua.sdk.core.AttributeIds;
+import com.inductiveautomation.opcua.sdk.core.events.BaseEventType;
+import com.inductiveautomation.opcua.sdk.core.events.SystemStatusChangeEventType;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.ExtensionObject;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.ServerState;
+import com.inductiveautomation.opcua.stack.core.types.structured.SimpleAttributeOperand;
+
+/**
+ * The select clauses of an EventFilter, compiled into one {@link EventField} accessor per clause.
+ * <p>
+ * Clauses selecting the standard fields of {@link BaseEventType} (and the SystemState of a
+ * {@link SystemStatusChangeEventType}) read the field directly; any other single-element path falls back to
+ * {@link BaseEventType#getProperty(QualifiedName)}, and longer paths are rejected with Bad_BrowseNameInvalid.
+ * Building the fields for an event is a single pass over the accessors.
+ */
+public class EventFieldSelector {
+
+    private static final EventField NULL_FIELD = event -> null;
+
+    private final EventField[] fields;
+    private final StatusCode[] selectClauseResults;
+
+    private EventFieldSelector(EventField[] fields, StatusCode[] selectClauseResults) {
+        this.fields = fields;
+        this.selectClauseResults = selectClauseResults;
+    }
+
+    /**
+     * @param selectClauses the select clauses of an EventFilter.
+     * @return an {@link EventFieldSelector} for {@code selectClauses}.
+     */
+    public static EventFieldSelector compile(SimpleAttributeOperand[] selectClauses) {
+        EventField[] fields = new EventField[selectClauses.length];
+        StatusCode[] results = new StatusCode[selectClauses.length];
+
+        for (int i = 0; i < selectClauses.length; i++) {
+            SimpleAttributeOperand operand = selectClauses[i];
+            QualifiedName[] browsePath = operand.getBrowsePath();
+            int attributeId = operand.getAttributeId() != null ? operand.getAttributeId().intValue() : 0;
+
+            if (browsePath == null || browsePath.length == 0) {
+                if (attributeId == AttributeIds.NodeId) {
+                    // The ConditionId; events that aren't Conditions don't have one.
+                    fields[i] = NULL_FIELD;
+                    results[i] = StatusCode.GOOD;
+                } else {
+                    fields[i] = NULL_FIELD;
+                    results[i] = new StatusCode(StatusCodes.Bad_BrowseNameInvalid);
+                }
+            } else if (attributeId != AttributeIds.Value) {
+                fields[i] = NULL_FIELD;
+                results[i] = new StatusCode(StatusCodes.Bad_AttributeIdInvalid);
+            } else {
+                EventField field = field(browsePath);
+
+                if (field != null) {
+                    fields[i] = field;
+                    results[i] = StatusCode.GOOD;
+                } else {
+                    fields[i] = NULL_FIELD;
+                    results[i] = new StatusCode(StatusCodes.Bad_BrowseNameInvalid);
+                }
+            }
+        }
+
+        return new EventFieldSelector(fields, results);
+    }
+
+    /**
+     * @param browsePath the non-empty browse path of a SimpleAttributeOperand selecting a Value attribute.
+     * @return an {@link EventField} reading the value at {@code browsePath}, or {@code null} if the path can't be
+     * followed. Events only expose their own Properties, so paths into their components (e.g. {@code EnabledState/Id})
+     * can't be.
+     */
+    static EventField field(QualifiedName[] browsePath) {
+        if (browsePath.length != 1) return null;
+
+        QualifiedName browseName = browsePath[0];
+
+        if (browseName.getNamespaceIndex().intValue() == 0) {
+            String name = browseName.getName();
+
+            if ("EventId".equals(name)) return BaseEventType::getEventId;
+            if ("EventType".equals(name)) return BaseEventType::getEventType;
+            if ("SourceNode".equals(name)) return BaseEventType::getSourceNode;
+            if ("SourceName".equals(name)) return BaseEventType::getSourceName;
+            if ("Time".equals(name)) return BaseEventType::getTime;
+            if ("ReceiveTime".equals(name)) return BaseEventType::getReceiveTime;
+            if ("Message".equals(name)) return BaseEventType::getMessage;
+            if ("Severity".equals(name)) return BaseEventType::getSeverity;
+
+            if ("LocalTime".equals(name)) {
+                return event -> event.getLocalTime().map(tz -> new ExtensionObject(tz)).orElse(null);
+            }
+
+            if ("SystemState".equals(name)) {
+                return event -> {
+                    if (event instanceof SystemStatusChangeEventType) {
+                        ServerState state = ((SystemStatusChangeEventType) event).getSystemState();
+                        return state != null ? state.getValue() : null;
+                    } else {
+                        return null;
+                    }
+                };
+            }
+        }
+
+        return event -> {
+            DataValue value = event.getProperty(browseName);
+            return value != null ? value.getValue().getValue() : null;
+        };
+    }
+
+    /**
+     * @param event the event to select fields from.
+     * @return the value of each select clause for {@code event}, in order.
+     */
+    public Variant[] select(BaseEventType event) {
+        Variant[] values = new Variant[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            Object value = fields[i].get(event);
+            values[i] = (value != null) ? new Variant(value) : Variant.NULL_VALUE;
+        }
+
+        return values;
+    }
+
+    /**
+     * @return the result of compiling each select clause, in order.
+     */
+    public StatusCode[] getSelectClauseResults() {
+        return selectClauseResults;
+    }
+
+    @FunctionalInterface
+    public static interface EventField {
+
+        /**
+         * @param event the event to get the field from.
+         * @return the value of the field for {@code event}, or {@code null} if it has none.
+         */
+        Object get(BaseEventType event);
+
+    }
+
+}
@@ -59,6 +59,11 @@ public class NoOpNamespace implements Namespace {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<BrowseHeader> getBrowseHeader(NodeId nodeId) {
+        return Optional.empty();
+    }
+
     @Override
     public <T> T getAttribute(NodeId nodeId, int attributeId) {
         return null;
@@ -19,7 +19,7 @@ package com.inductiveautomation.opcua.sdk.server.util;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 
-public class RingBuffer<E> {
+public class RingBuffer<E> implements BoundedQueue<E> {
 
     private int read = 0;
     private int write = 0;
@@ -42,6 +42,7 @@ public class RingBuffer<E> {
      * @return The element at the specified index.
      * @throws IndexOutOfBoundsException if the index is out of bounds...
      */
+    @Override
     public E get(int index) {
         if (index >= count) {
             throw new IndexOutOfBoundsException("index=" + index);
@@ -57,6 +58,7 @@ public class RingBuffer<E> {
      * @param e     The element to set.
      * @throws IndexOutOfBoundsException if the index is out of bounds...
      */
+    @Override
     public void set(int index, E e) {
         if (index >= count) {
             throw new IndexOutOfBoundsException("index=" + index);
@@ -70,6 +72,7 @@ public class RingBuffer<E> {
      *
      * @param e element to add.
      */
+    @Override
     public void add(E e) {
         buffer[write] = e;
         write = (write + 1) % maxSize;
@@ -85,6 +88,7 @@ public class RingBuffer<E> {
      * @return The next (oldest) element in the buffer.
      * @throws NoSuchElementException if the buffer is empty.
      */
+    @Override
     public E remove() {
         if (count <= 0) {
             throw new NoSuchElementException();
@@ -100,6 +104,7 @@ public class RingBuffer<E> {
     /**
      * Clear the contents of this buffer.
      */
+    @Override
     public void clear() {
         read = write = count = 0;
         Arrays.fill(buffer, null);
@@ -108,6 +113,7 @@ public class RingBuffer<E> {
     /**
      * @return {@code true} if the buffer is empty (size == 0).
      */
+    @Override
     public boolean isEmpty() {
         return size() == 0;
     }
@@ -115,6 +121,7 @@ public class RingBuffer<E> {
     /**
      * @return The maximum allowed size (number of elements).
      */
+    @Override
     public int maxSize() {
         return maxSize;
     }
@@ -122,6 +129,7 @@ public class RingBuffer<E> {
     /**
      * @return The current size (number of elements).
      */
+    @Override
     public int size() {
         return count;
     }
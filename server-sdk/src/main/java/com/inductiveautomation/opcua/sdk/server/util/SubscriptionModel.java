@@ -17,48 +17,102 @@
 package com.inductiveautomation.opcua.sdk.server.util;
 
 import java.math.RoundingMode;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.math.DoubleMath;
 import com.inductiveautomation.opcua.sdk.core.AttributeIds;
+import com.inductiveautomation.opcua.sdk.server.OpcUaServer;
 import com.inductiveautomation.opcua.sdk.server.api.DataItem;
 import com.inductiveautomation.opcua.sdk.server.api.MonitoredItem;
+import com.inductiveautomation.opcua.sdk.server.api.Namespace;
 import com.inductiveautomation.opcua.sdk.server.api.ReadWriteManager;
 import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
 import com.inductiveautomation.opcua.stack.core.util.ExecutionQueue;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Samples {@link DataItem}s by periodically reading them through a {@link ReadWriteManager}.
+ * <p>
+ * Items are grouped by sampling interval. Each group runs at a fixed rate, phase-aligned to the wall clock so that a
+ * group with an interval that's a multiple of another's samples on the same ticks. Groups live for as long as they
+ * have items; creating, modifying or deleting items only touches the groups those items move in or out of.
+ * <p>
+ * Within a group, items reading the same value share a single {@link ReadValueId}, and the result is fanned out to
+ * all of them.
+ */
 public class SubscriptionModel {
 
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     private final Set<DataItem> itemSet = Collections.newSetFromMap(Maps.newConcurrentMap());
 
-    private final List<ScheduledUpdate> schedule = Lists.newCopyOnWriteArrayList();
+    private final Map<DataItem, SamplingGroup> itemGroups = Maps.newConcurrentMap();
+    private final Map<Long, SamplingGroup> groups = Maps.newConcurrentMap();
 
     private final ExecutionQueue<Runnable> executionQueue;
 
     private final ReadWriteManager readWriteManager;
     private final ExecutorService executor;
     private final ScheduledExecutorService scheduler;
+    private final Counter overrunCounter;
+
+    /**
+     * Create a {@link SubscriptionModel} for {@code namespace} that samples on {@code server}'s executors and counts
+     * overruns in the server's {@link MetricRegistry}, under {@link #overrunMetricName(Namespace)}.
+     *
+     * @param server    the {@link OpcUaServer} the namespace belongs to.
+     * @param namespace the {@link Namespace} to read sampled values from.
+     */
+    public SubscriptionModel(OpcUaServer server, Namespace namespace) {
+        this(namespace, server.getExecutorService(), server.getScheduledExecutorService(),
+                server.getMetricRegistry().counter(overrunMetricName(namespace)));
+    }
 
+    /**
+     * Create a {@link SubscriptionModel} whose overrun {@link Counter} isn't registered anywhere; it's only available
+     * from {@link #getOverrunCounter()}.
+     */
     public SubscriptionModel(ReadWriteManager readWriteManager,
                              ExecutorService executor,
                              ScheduledExecutorService scheduler) {
 
+        this(readWriteManager, executor, scheduler, new Counter());
+    }
+
+    SubscriptionModel(ReadWriteManager readWriteManager,
+                      ExecutorService executor,
+                      ScheduledExecutorService scheduler,
+                      Counter overrunCounter) {
+
         this.readWriteManager = readWriteManager;
         this.executor = executor;
         this.scheduler = scheduler;
+        this.overrunCounter = overrunCounter;
 
         executionQueue = new ExecutionQueue<>(ExecutionQueue.RUNNABLE_EXECUTOR, executor);
     }
@@ -66,95 +120,285 @@ public class SubscriptionModel {
     public void onDataItemsCreated(List<DataItem> items) {
         executionQueue.submit(() -> {
             itemSet.addAll(items);
-            reschedule();
+            update(items);
         });
     }
 
     public void onDataItemsModified(List<DataItem> items) {
-        executionQueue.submit(this::reschedule);
+        executionQueue.submit(() -> update(items));
     }
 
     public void onDataItemsDeleted(List<DataItem> items) {
         executionQueue.submit(() -> {
             itemSet.removeAll(items);
-            reschedule();
+            update(items);
         });
     }
 
     public void onMonitoringModeChanged(List<MonitoredItem> items) {
-        executionQueue.submit(this::reschedule);
+        executionQueue.submit(() -> {
+            List<DataItem> dataItems = Lists.newArrayList();
+
+            for (MonitoredItem item : items) {
+                if (item instanceof DataItem) dataItems.add((DataItem) item);
+            }
+
+            update(dataItems);
+        });
     }
 
-    private void reschedule() {
-        Map<Double, List<DataItem>> bySamplingInterval = itemSet.stream()
-                .filter(DataItem::isSamplingEnabled)
-                .collect(Collectors.groupingBy(DataItem::getSamplingInterval));
+    /**
+     * @return a {@link Counter} of sampling ticks that were skipped because the previous read for the same group had
+     * not completed yet.
+     */
+    public Counter getOverrunCounter() {
+        return overrunCounter;
+    }
 
-        List<ScheduledUpdate> updates = bySamplingInterval.keySet().stream().map(samplingInterval -> {
-            List<DataItem> items = bySamplingInterval.get(samplingInterval);
+    /**
+     * @param namespace the {@link Namespace} being sampled.
+     * @return the name the overrun {@link Counter} of {@code namespace}'s {@link SubscriptionModel} is registered
+     * under, e.g. {@code com.inductiveautomation.opcua.sdk.server.util.SubscriptionModel.<namespace uri>.overruns}.
+     */
+    public static String overrunMetricName(Namespace namespace) {
+        return MetricRegistry.name(SubscriptionModel.class, namespace.getNamespaceUri(), "overruns");
+    }
 
-            return new ScheduledUpdate(samplingInterval, items);
-        }).collect(Collectors.toList());
+    /**
+     * Move each of {@code items} into the group it belongs in, if any, then rebuild the groups that changed.
+     * <p>
+     * Only ever called from the {@link ExecutionQueue}.
+     */
+    private void update(List<DataItem> items) {
+        Set<SamplingGroup> modified = Sets.newIdentityHashSet();
+
+        for (DataItem item : items) {
+            SamplingGroup current = itemGroups.get(item);
+            SamplingGroup target = null;
+
+            if (itemSet.contains(item) && item.isSamplingEnabled()) {
+                long samplingInterval = Math.max(1L,
+                        DoubleMath.roundToLong(item.getSamplingInterval(), RoundingMode.UP));
+
+                target = groups.computeIfAbsent(samplingInterval, SamplingGroup::new);
+            }
+
+            if (current == target) continue;
+
+            if (current != null) {
+                current.removeItem(item);
+                itemGroups.remove(item);
+                modified.add(current);
+            }
+
+            if (target != null) {
+                target.addItem(item);
+                itemGroups.put(item, target);
+                modified.add(target);
+            }
+        }
 
-        schedule.forEach(ScheduledUpdate::cancel);
-        schedule.clear();
-        schedule.addAll(updates);
-        schedule.forEach(scheduler::execute);
+        for (SamplingGroup group : modified) {
+            if (group.isEmpty()) {
+                group.stop();
+                groups.remove(group.getSamplingInterval(), group);
+            } else {
+                group.rebuild();
+                group.start();
+            }
+        }
     }
 
-    private class ScheduledUpdate implements Runnable {
+    private class SamplingGroup implements Runnable {
+
+        private final AtomicBoolean reading = new AtomicBoolean(false);
 
-        private volatile boolean cancelled = false;
+        /**
+         * Items by the value they read. Only modified from the {@link ExecutionQueue}.
+         */
+        private final Map<ReadValueKey, List<DataItem>> itemsByKey = Maps.newLinkedHashMap();
+
+        private volatile Samples samples = new Samples(ImmutableList.of(), ImmutableList.of());
+
+        private volatile ScheduledFuture<?> future;
 
         private final long samplingInterval;
-        private final List<DataItem> items;
 
-        private ScheduledUpdate(double samplingInterval, List<DataItem> items) {
-            this.samplingInterval = DoubleMath.roundToLong(samplingInterval, RoundingMode.UP);
-            this.items = items;
+        private SamplingGroup(long samplingInterval) {
+            this.samplingInterval = samplingInterval;
+        }
+
+        private long getSamplingInterval() {
+            return samplingInterval;
         }
 
-        private void cancel() {
-            cancelled = true;
+        private boolean isEmpty() {
+            return itemsByKey.isEmpty();
+        }
+
+        private void addItem(DataItem item) {
+            itemsByKey.computeIfAbsent(new ReadValueKey(item.getReadValueId()), k -> Lists.newArrayList()).add(item);
+        }
+
+        private void removeItem(DataItem item) {
+            ReadValueKey key = new ReadValueKey(item.getReadValueId());
+            List<DataItem> items = itemsByKey.get(key);
+
+            if (items != null) {
+                items.remove(item);
+                if (items.isEmpty()) itemsByKey.remove(key);
+            }
+        }
+
+        /**
+         * Publish a new immutable snapshot of the group's membership for the sampling task to use.
+         */
+        private void rebuild() {
+            ImmutableList.Builder<ReadValueId> readValueIds = ImmutableList.builder();
+            ImmutableList.Builder<List<DataItem>> subscribers = ImmutableList.builder();
+
+            for (List<DataItem> items : itemsByKey.values()) {
+                readValueIds.add(items.get(0).getReadValueId());
+                subscribers.add(ImmutableList.copyOf(items));
+            }
+
+            samples = new Samples(readValueIds.build(), subscribers.build());
+        }
+
+        /**
+         * Start sampling at a fixed rate, with the first sample at the next wall-clock multiple of the interval.
+         */
+        private void start() {
+            if (future != null) return;
+
+            long initialDelay = samplingInterval - (System.currentTimeMillis() % samplingInterval);
+
+            future = scheduler.scheduleAtFixedRate(this, initialDelay, samplingInterval, TimeUnit.MILLISECONDS);
+        }
+
+        private void stop() {
+            ScheduledFuture<?> f = future;
+
+            if (f != null) {
+                f.cancel(false);
+                future = null;
+            }
         }
 
         @Override
         public void run() {
-            List<PendingRead> pending = items.stream()
-                    .map(item -> new PendingRead(item.getReadValueId()))
-                    .collect(Collectors.toList());
+            Samples samples = this.samples;
 
-            List<ReadValueId> ids = pending.stream()
-                    .map(PendingRead::getInput)
-                    .collect(Collectors.toList());
+            if (samples.readValueIds.isEmpty()) return;
 
-            CompletableFuture<List<DataValue>> future = Pending.callback(pending);
+            if (!reading.compareAndSet(false, true)) {
+                overrunCounter.inc();
 
-            future.thenAcceptAsync(values -> {
-                Iterator<DataItem> ii = items.iterator();
-                Iterator<DataValue> vi = values.iterator();
+                logger.debug("Sampling overrun; previous read for interval={}ms still in progress.", samplingInterval);
 
-                while (ii.hasNext() && vi.hasNext()) {
-                    DataItem item = ii.next();
-                    DataValue value = vi.next();
+                return;
+            }
 
-                    TimestampsToReturn timestamps = item.getTimestampsToReturn();
+            try {
+                CompletableFuture<List<DataValue>> readFuture = new CompletableFuture<>();
 
-                    if (timestamps != null) {
-                        value = (item.getReadValueId().getAttributeId().intValue() == AttributeIds.Value) ?
-                                DataValue.derivedValue(value, timestamps) :
-                                DataValue.derivedNonValue(value, timestamps);
+                readFuture.whenCompleteAsync((values, ex) -> {
+                    try {
+                        if (values != null) {
+                            samples.fanOut(values);
+                        } else {
+                            logger.warn("Sampling read failed for interval={}ms.", samplingInterval, ex);
+                        }
+                    } finally {
+                        reading.set(false);
                     }
+                }, executor);
 
-                    item.setValue(value);
-                }
+                executor.execute(() -> readWriteManager.read(
+                        samples.readValueIds, 0d, TimestampsToReturn.Both, readFuture));
+            } catch (RejectedExecutionException e) {
+                reading.set(false);
+
+                logger.warn("Sampling read rejected for interval={}ms.", samplingInterval, e);
+            }
+        }
+
+    }
+
+    /**
+     * One {@link ReadValueId} per distinct value being sampled, and the items each resulting value fans out to.
+     */
+    private static final class Samples {
+
+        private final List<ReadValueId> readValueIds;
+        private final List<List<DataItem>> subscribers;
+
+        private Samples(List<ReadValueId> readValueIds, List<List<DataItem>> subscribers) {
+            this.readValueIds = readValueIds;
+            this.subscribers = subscribers;
+        }
+
+        private void fanOut(Collection<DataValue> values) {
+            Iterator<List<DataItem>> si = subscribers.iterator();
+            Iterator<DataValue> vi = values.iterator();
 
-                if (!cancelled) {
-                    scheduler.schedule(this, samplingInterval, TimeUnit.MILLISECONDS);
+            while (si.hasNext() && vi.hasNext()) {
+                List<DataItem> items = si.next();
+                DataValue value = vi.next();
+
+                for (DataItem item : items) {
+                    item.setValue(derivedValue(item, value));
                 }
-            }, executor);
+            }
+        }
+
+        private static DataValue derivedValue(DataItem item, DataValue value) {
+            TimestampsToReturn timestamps = item.getTimestampsToReturn();
+
+            if (timestamps != null) {
+                return (item.getReadValueId().getAttributeId().intValue() == AttributeIds.Value) ?
+                        DataValue.derivedValue(value, timestamps) :
+                        DataValue.derivedNonValue(value, timestamps);
+            } else {
+                return value;
+            }
+        }
+
+    }
 
-            executor.execute(() -> readWriteManager.read(ids, 0d, TimestampsToReturn.Both, future));
+    /**
+     * Identifies the value a {@link ReadValueId} reads, so items sampling the same value can share a single read.
+     */
+    private static final class ReadValueKey {
+
+        private final NodeId nodeId;
+        private final UInteger attributeId;
+        private final String indexRange;
+        private final QualifiedName dataEncoding;
+
+        private ReadValueKey(ReadValueId readValueId) {
+            this.nodeId = readValueId.getNodeId();
+            this.attributeId = readValueId.getAttributeId();
+            this.indexRange = readValueId.getIndexRange();
+            this.dataEncoding = readValueId.getDataEncoding();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            ReadValueKey that = (ReadValueKey) o;
+
+            return Objects.equals(nodeId, that.nodeId) &&
+                    Objects.equals(attributeId, that.attributeId) &&
+                    Objects.equals(indexRange, that.indexRange) &&
+                    Objects.equals(dataEncoding, that.dataEncoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(nodeId, attributeId, indexRange, dataEncoding);
         }
 
     }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.items;
+
+import com.inductiveautomation.opcua.sdk.core.AttributeIds;
+import com.inductiveautomation.opcua.sdk.server.util.DataValueRingBuffer;
+import com.inductiveautomation.opcua.sdk.server.util.RingBuffer;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class MonitoredDataItemTest {
+
+    @Test
+    public void testQueueOfOneIsNotCompact() throws UaException {
+        MonitoredDataItem item = item(1, true);
+
+        assertTrue(item.queue instanceof RingBuffer);
+    }
+
+    @Test
+    public void testDiscardOldest() throws UaException {
+        MonitoredDataItem item = item(3, true);
+        assertTrue(item.queue instanceof DataValueRingBuffer);
+
+        for (int i = 1; i <= 5; i++) {
+            item.setValue(value(i));
+        }
+
+        assertValue(item.queue.remove(), 3.0, false);
+        assertValue(item.queue.remove(), 4.0, true);
+        assertValue(item.queue.remove(), 5.0, true);
+        assertTrue(item.queue.isEmpty());
+    }
+
+    @Test
+    public void testDiscardNewest() throws UaException {
+        MonitoredDataItem item = item(3, false);
+
+        for (int i = 1; i <= 5; i++) {
+            item.setValue(value(i));
+        }
+
+        assertValue(item.queue.remove(), 1.0, false);
+        assertValue(item.queue.remove(), 2.0, false);
+        assertValue(item.queue.remove(), 5.0, true);
+        assertTrue(item.queue.isEmpty());
+    }
+
+    @Test
+    public void testNoOverflowWithQueueOfOne() throws UaException {
+        MonitoredDataItem item = item(1, true);
+
+        item.setValue(value(1));
+        item.setValue(value(2));
+
+        assertValue(item.queue.remove(), 2.0, false);
+        assertTrue(item.queue.isEmpty());
+    }
+
+    @Test
+    public void testInflatesOnNonScalarValue() throws UaException {
+        MonitoredDataItem item = item(3, true);
+
+        item.setValue(value(1));
+        item.setValue(value(2));
+        item.setValue(new DataValue(new Variant("x"), StatusCode.GOOD, DateTime.now(), DateTime.now()));
+
+        assertFalse(item.queue instanceof DataValueRingBuffer);
+        assertEquals(item.queue.size(), 3);
+
+        assertValue(item.queue.remove(), 1.0, false);
+        assertValue(item.queue.remove(), 2.0, false);
+        assertEquals(item.queue.remove().getValue().getValue(), "x");
+
+        // Stays inflated once a value couldn't be stored compactly.
+        item.setValue(value(3));
+        assertFalse(item.queue instanceof DataValueRingBuffer);
+    }
+
+    private static MonitoredDataItem item(long queueSize, boolean discardOldest) throws UaException {
+        ReadValueId readValueId = new ReadValueId(
+                new NodeId(2, 1), uint(AttributeIds.Value), null, QualifiedName.NULL_VALUE);
+
+        return new MonitoredDataItem(
+                uint(1), readValueId, MonitoringMode.Reporting, TimestampsToReturn.Both,
+                uint(1), 1000.0, null, uint(queueSize), discardOldest);
+    }
+
+    private static DataValue value(int i) {
+        return new DataValue(new Variant((double) i), StatusCode.GOOD, new DateTime(i), new DateTime(i));
+    }
+
+    private static void assertValue(DataValue value, double expected, boolean overflow) {
+        assertEquals(value.getValue().getValue(), expected);
+        assertEquals(value.getStatusCode().isOverflowSet(), overflow);
+    }
+
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.namespaces.loader;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Writes the {@link NodeTable} for a UANodeSet document.
+ * <p>
+ * Run it whenever the NodeSet changes, with the {@code node-table} profile:
+ * <pre>
+ *     mvn -P node-table process-test-classes
+ * </pre>
+ * or directly, with the NodeSet to read and the table to write as arguments.
+ * Rows are written in document order. Objects and Variables are built as the SDK class named after their
+ * TypeDefinition ({@code ServerStatusType} becomes {@code ServerStatusNode}). Every reference is added to its source
+ * node and, inverted, to its target node, so each row carries its references in both directions. Attributes the
+ * NodeSet omits take the defaults of the UANodeSet schema. Values are re-serialized in the XML encoding the server
+ * decodes; a Value too large for a table string is left out, and a warning is printed.
+ */
+public class NodeTableGenerator {
+
+    private static final String UA_NODE_SET_NS = "http://opcfoundation.org/UA/2011/03/UANodeSet.xsd";
+    private static final String UA_TYPES_NS = "http://opcfoundation.org/UA/2008/02/Types.xsd";
+    private static final String XSI_NS = "http://www.w3.org/2001/XMLSchema-instance";
+    private static final String XMLNS_NS = "http://www.w3.org/2000/xmlns/";
+
+    private static final String VALUE_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+
+    private static final String HAS_TYPE_DEFINITION = "i=40";
+    private static final String BASE_DATA_TYPE = "i=24";
+
+    private static final int MAX_STRING_LENGTH = 65535;
+
+    private static final Pattern BROWSE_NAME = Pattern.compile("(\\d+):(.*)", Pattern.DOTALL);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("usage: NodeTableGenerator <nodeset.xml> <table.bin>");
+            System.exit(1);
+        }
+
+        try (InputStream nodeSet = new FileInputStream(args[0]);
+             OutputStream table = new FileOutputStream(args[1])) {
+
+            generate(nodeSet, table);
+        }
+    }
+
+    /**
+     * Write the table for the UANodeSet read from {@code nodeSet} to {@code table}.
+     */
+    public static void generate(InputStream nodeSet, OutputStream table) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+
+        Document document = factory.newDocumentBuilder().parse(nodeSet);
+
+        new NodeTableGenerator(document.getDocumentElement()).write(table);
+    }
+
+    private final Map<String, String> aliases = new LinkedHashMap<>();
+    private final Map<String, Element> nodes = new LinkedHashMap<>();
+    private final Map<String, List<TableReference>> references = new LinkedHashMap<>();
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+    private NodeTableGenerator(Element nodeSet) {
+        for (Element child : children(nodeSet)) {
+            if ("Aliases".equals(child.getLocalName())) {
+                for (Element alias : children(child)) {
+                    aliases.put(alias.getAttribute("Alias"), alias.getTextContent().trim());
+                }
+            } else if (child.getLocalName().startsWith("UA")) {
+                nodes.put(child.getAttribute("NodeId"), child);
+                references.put(child.getAttribute("NodeId"), new ArrayList<>());
+            }
+        }
+
+        for (Element node : nodes.values()) {
+            String nodeId = node.getAttribute("NodeId");
+
+            for (Element reference : references(node)) {
+                String referenceTypeId = alias(reference.getAttribute("ReferenceType"));
+                String targetId = reference.getTextContent().trim();
+                boolean forward = !"false".equals(reference.getAttribute("IsForward"));
+
+                Element target = nodes.get(targetId);
+                if (target == null) {
+                    throw new IllegalArgumentException(nodeId + " references unknown node " + targetId);
+                }
+
+                references.get(nodeId).add(new TableReference(referenceTypeId, targetId, nodeClass(target), forward));
+                references.get(targetId).add(new TableReference(referenceTypeId, nodeId, nodeClass(node), !forward));
+            }
+        }
+    }
+
+    private void write(OutputStream table) throws IOException {
+        ByteArrayOutputStream rows = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(rows);
+
+        writeCount(out, nodes.size());
+
+        for (Element node : nodes.values()) {
+            writeRow(out, node);
+        }
+
+        out.flush();
+
+        DataOutputStream header = new DataOutputStream(table);
+        header.writeInt(NodeTable.MAGIC);
+        header.writeShort(NodeTable.VERSION);
+
+        writeCount(header, strings.size());
+
+        for (String string : strings.keySet()) {
+            header.writeUTF(string);
+        }
+
+        rows.writeTo(header);
+        header.flush();
+    }
+
+    private void writeRow(DataOutputStream out, Element node) throws IOException {
+        String nodeId = node.getAttribute("NodeId");
+        NodeClass nodeClass = nodeClass(node);
+
+        out.writeByte(nodeClass.getValue());
+        writeString(out, className(node, nodeClass));
+
+        writeString(out, nodeId);
+
+        Matcher browseName = BROWSE_NAME.matcher(node.getAttribute("BrowseName"));
+        if (browseName.matches()) {
+            out.writeShort(Integer.parseInt(browseName.group(1)));
+            writeString(out, browseName.group(2));
+        } else {
+            out.writeShort(0);
+            writeString(out, node.getAttribute("BrowseName"));
+        }
+
+        writeLocalizedText(out, child(node, "DisplayName"));
+        writeOptionalLocalizedText(out, child(node, "Description"));
+
+        out.writeBoolean(true);
+        out.writeInt((int) Long.parseLong(attribute(node, "WriteMask", "0")));
+        out.writeBoolean(true);
+        out.writeInt((int) Long.parseLong(attribute(node, "UserWriteMask", "0")));
+
+        switch (nodeClass) {
+            case Object:
+                out.writeByte(Integer.parseInt(attribute(node, "EventNotifier", "0")));
+                break;
+
+            case Variable:
+                writeValue(out, node);
+                writeString(out, alias(attribute(node, "DataType", BASE_DATA_TYPE)));
+                out.writeInt(Integer.parseInt(attribute(node, "ValueRank", "-1")));
+                writeArrayDimensions(out, node);
+                out.writeByte(Integer.parseInt(attribute(node, "AccessLevel", "1")));
+                out.writeByte(Integer.parseInt(attribute(node, "UserAccessLevel", "1")));
+                out.writeBoolean(true);
+                out.writeDouble(Double.parseDouble(attribute(node, "MinimumSamplingInterval", "0")));
+                out.writeBoolean(Boolean.parseBoolean(attribute(node, "Historizing", "false")));
+                break;
+
+            case Method:
+                out.writeBoolean(Boolean.parseBoolean(attribute(node, "Executable", "true")));
+                out.writeBoolean(Boolean.parseBoolean(attribute(node, "UserExecutable", "true")));
+                break;
+
+            case ObjectType:
+            case DataType:
+                out.writeBoolean(Boolean.parseBoolean(attribute(node, "IsAbstract", "false")));
+                break;
+
+            case VariableType:
+                writeValue(out, node);
+                writeString(out, alias(attribute(node, "DataType", BASE_DATA_TYPE)));
+                out.writeInt(Integer.parseInt(attribute(node, "ValueRank", "-1")));
+                writeArrayDimensions(out, node);
+                out.writeBoolean(Boolean.parseBoolean(attribute(node, "IsAbstract", "false")));
+                break;
+
+            case ReferenceType:
+                out.writeBoolean(Boolean.parseBoolean(attribute(node, "IsAbstract", "false")));
+                out.writeBoolean(Boolean.parseBoolean(attribute(node, "Symmetric", "false")));
+                writeOptionalLocalizedText(out, child(node, "InverseName"));
+                break;
+
+            default:
+                throw new IllegalArgumentException("unsupported node class: " + nodeClass + " " + nodeId);
+        }
+
+        List<TableReference> nodeReferences = references.get(nodeId);
+        writeCount(out, nodeReferences.size());
+
+        for (TableReference reference : nodeReferences) {
+            writeString(out, reference.referenceTypeId);
+            writeString(out, "svr=0;" + reference.targetId);
+            out.writeByte(reference.targetNodeClass.getValue());
+            out.writeBoolean(reference.forward);
+        }
+    }
+
+    /**
+     * The SDK class is named after the TypeDefinition of Objects and Variables, and by node class for everything else.
+     */
+    private String className(Element node, NodeClass nodeClass) {
+        if (nodeClass != NodeClass.Object && nodeClass != NodeClass.Variable) {
+            return "Ua" + nodeClass + "Node";
+        }
+
+        for (Element reference : references(node)) {
+            if (HAS_TYPE_DEFINITION.equals(alias(reference.getAttribute("ReferenceType"))) &&
+                    !"false".equals(reference.getAttribute("IsForward"))) {
+
+                String typeName = nodes.get(reference.getTextContent().trim()).getAttribute("BrowseName");
+
+                if (typeName.endsWith("Type")) {
+                    return typeName.substring(0, typeName.length() - "Type".length()) + "Node";
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("no usable TypeDefinition: " + node.getAttribute("NodeId"));
+    }
+
+    private void writeValue(DataOutputStream out, Element node) throws IOException {
+        Element value = child(node, "Value");
+        List<Element> contents = value != null ? children(value) : new ArrayList<>();
+
+        if (contents.isEmpty()) {
+            out.writeBoolean(false);
+            return;
+        }
+
+        StringBuilder xml = new StringBuilder(VALUE_HEADER);
+        appendValue(xml, contents.get(0), true);
+
+        if (utfLength(xml) > MAX_STRING_LENGTH) {
+            System.err.printf("%s: Value left out, its %d characters don't fit in a table string.%n",
+                    node.getAttribute("NodeId"), xml.length());
+
+            out.writeBoolean(false);
+        } else {
+            out.writeBoolean(true);
+            writeString(out, xml.toString());
+        }
+    }
+
+    /**
+     * Serialize a Value the way the XmlDecoder expects it: Types elements under the {@code ns2} prefix, no
+     * whitespace between elements, and the text of leaf elements kept as-is.
+     */
+    private static void appendValue(StringBuilder xml, Element element, boolean root) {
+        if (!UA_TYPES_NS.equals(element.getNamespaceURI())) {
+            throw new IllegalArgumentException("unexpected element in Value: " + element.getTagName());
+        }
+
+        String name = "ns2:" + element.getLocalName();
+        xml.append('<').append(name);
+
+        if (root) {
+            xml.append(" xmlns=\"").append(UA_NODE_SET_NS).append('"');
+            xml.append(" xmlns:ns2=\"").append(UA_TYPES_NS).append('"');
+        }
+
+        NamedNodeMap attributes = element.getAttributes();
+
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Node attribute = attributes.item(i);
+
+            if (XMLNS_NS.equals(attribute.getNamespaceURI())) continue;
+
+            if (XSI_NS.equals(attribute.getNamespaceURI()) && "nil".equals(attribute.getLocalName())) {
+                xml.append(" xsi:nil=\"").append(escape(attribute.getNodeValue())).append('"');
+                xml.append(" xmlns:xsi=\"").append(XSI_NS).append('"');
+            } else {
+                throw new IllegalArgumentException("unexpected attribute in Value: " + attribute.getNodeName());
+            }
+        }
+
+        List<Element> children = children(element);
+
+        if (!children.isEmpty()) {
+            xml.append('>');
+            for (Element child : children) {
+                appendValue(xml, child, false);
+            }
+            xml.append("</").append(name).append('>');
+        } else {
+            String text = element.getTextContent();
+
+            if (text.isEmpty()) {
+                xml.append("/>");
+            } else {
+                xml.append('>').append(escape(text)).append("</").append(name).append('>');
+            }
+        }
+    }
+
+    private void writeArrayDimensions(DataOutputStream out, Element node) throws IOException {
+        String dimensions = attribute(node, "ArrayDimensions", "");
+        String[] lengths = dimensions.isEmpty() ? new String[0] : dimensions.split(",");
+
+        out.writeBoolean(true);
+        writeCount(out, lengths.length);
+
+        for (String length : lengths) {
+            out.writeInt((int) Long.parseLong(length.trim()));
+        }
+    }
+
+    private void writeOptionalLocalizedText(DataOutputStream out, Element text) throws IOException {
+        out.writeBoolean(text != null);
+
+        if (text != null) writeLocalizedText(out, text);
+    }
+
+    private void writeLocalizedText(DataOutputStream out, Element text) throws IOException {
+        writeString(out, attribute(text, "Locale", "en"));
+        writeString(out, text.getTextContent());
+    }
+
+    private void writeString(DataOutputStream out, String string) throws IOException {
+        Integer index = strings.get(string);
+
+        if (index == null) {
+            if (utfLength(string) > MAX_STRING_LENGTH) {
+                throw new IOException("string too long for the table: " + string.substring(0, 64) + "...");
+            }
+
+            index = strings.size();
+            strings.put(string, index);
+        }
+
+        writeCount(out, index);
+    }
+
+    private static void writeCount(DataOutputStream out, int count) throws IOException {
+        if (count > 0xFFFF) throw new IOException("count too large for the table: " + count);
+
+        out.writeShort(count);
+    }
+
+    private String alias(String nodeId) {
+        String aliased = aliases.get(nodeId);
+
+        return aliased != null ? aliased : nodeId;
+    }
+
+    private static NodeClass nodeClass(Element node) {
+        return NodeClass.valueOf(node.getLocalName().substring("UA".length()));
+    }
+
+    private static List<Element> references(Element node) {
+        Element references = child(node, "References");
+
+        return references != null ? children(references) : new ArrayList<>();
+    }
+
+    private static String attribute(Element element, String name, String defaultValue) {
+        return element.hasAttribute(name) ? element.getAttribute(name) : defaultValue;
+    }
+
+    private static Element child(Element element, String localName) {
+        for (Element child : children(element)) {
+            if (localName.equals(child.getLocalName())) return child;
+        }
+
+        return null;
+    }
+
+    private static List<Element> children(Element element) {
+        List<Element> children = new ArrayList<>();
+        NodeList nodes = element.getChildNodes();
+
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i) instanceof Element) {
+                children.add((Element) nodes.item(i));
+            }
+        }
+
+        return children;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * @return the length of {@code s} in the modified UTF-8 written by {@link DataOutputStream#writeUTF(String)}.
+     */
+    private static int utfLength(CharSequence s) {
+        int length = 0;
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c >= 0x0001 && c <= 0x007F) {
+                length += 1;
+            } else if (c <= 0x07FF) {
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    private static final class TableReference {
+
+        private final String referenceTypeId;
+        private final String targetId;
+        private final NodeClass targetNodeClass;
+        private final boolean forward;
+
+        private TableReference(String referenceTypeId, String targetId, NodeClass targetNodeClass, boolean forward) {
+            this.referenceTypeId = referenceTypeId;
+            this.targetId = targetId;
+            this.targetNodeClass = targetNodeClass;
+            this.forward = forward;
+        }
+
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.namespaces.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+import com.inductiveautomation.opcua.sdk.core.Reference;
+import com.inductiveautomation.opcua.sdk.server.model.UaObjectNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaReferenceTypeNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaVariableNode;
+import com.inductiveautomation.opcua.sdk.server.model.UaVariableTypeNode;
+import com.inductiveautomation.opcua.sdk.server.model.objects.ServerNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.PropertyNode;
+import com.inductiveautomation.opcua.sdk.server.model.variables.ServerStatusNode;
+import com.inductiveautomation.opcua.sdk.server.namespaces.loader.NodeTable.Row;
+import com.inductiveautomation.opcua.stack.core.types.builtin.LocalizedText;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.NodeClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class NodeTableTest {
+
+    private List<Row> rows;
+    private Map<NodeId, Row> rowsById;
+
+    @BeforeClass
+    public void readTable() throws Exception {
+        rows = NodeTable.read();
+        rowsById = Maps.newHashMap();
+
+        for (Row row : rows) {
+            rowsById.put(row.getNodeId(), row);
+        }
+    }
+
+    @Test
+    public void testTableMatchesNodeSet() throws Exception {
+        ByteArrayOutputStream generated = new ByteArrayOutputStream();
+
+        try (InputStream nodeSet = getClass().getResourceAsStream("/Opc.Ua.NodeSet2.xml")) {
+            NodeTableGenerator.generate(nodeSet, generated);
+        }
+
+        byte[] committed;
+        try (InputStream table = getClass().getResourceAsStream(NodeTable.RESOURCE)) {
+            committed = ByteStreams.toByteArray(table);
+        }
+
+        assertTrue(Arrays.equals(generated.toByteArray(), committed),
+                "Opc.Ua.NodeSet2.bin is out of date; re-run NodeTableGenerator");
+    }
+
+    @Test
+    public void testNodeAndReferenceCounts() {
+        assertEquals(rows.size(), 1636);
+        assertEquals(rowsById.size(), 1636);
+
+        int references = 0;
+        for (Row row : rows) {
+            references += row.getReferences().size();
+        }
+
+        assertEquals(references, 10212);
+    }
+
+    @Test
+    public void testObjectAttributes() throws Exception {
+        UaObjectNode server = (UaObjectNode) row("i=2253").createNode(null);
+
+        assertTrue(server instanceof ServerNode);
+        assertEquals(server.getNodeClass(), NodeClass.Object);
+        assertEquals(server.getBrowseName(), new QualifiedName(0, "Server"));
+        assertEquals(server.getDisplayName(), new LocalizedText("en", "Server"));
+        assertEquals(server.getEventNotifier().intValue(), 1);
+    }
+
+    @Test
+    public void testVariableAttributes() throws Exception {
+        UaVariableNode serverStatus = (UaVariableNode) row("i=2256").createNode(null);
+
+        assertTrue(serverStatus instanceof ServerStatusNode);
+        assertEquals(serverStatus.getDataType(), NodeId.parse("i=862"));
+        assertEquals(serverStatus.getValueRank().intValue(), -1);
+        assertEquals(serverStatus.getMinimumSamplingInterval(), Optional.of(1000.0));
+        assertEquals(serverStatus.getDescription(),
+                Optional.of(new LocalizedText("en", "The current status of the server.")));
+    }
+
+    @Test
+    public void testReferenceTypeAttributes() throws Exception {
+        UaReferenceTypeNode hasSubtype = (UaReferenceTypeNode) row("i=45").createNode(null);
+
+        assertFalse(hasSubtype.getIsAbstract());
+        assertFalse(hasSubtype.getSymmetric());
+        assertEquals(hasSubtype.getInverseName(), Optional.of(new LocalizedText("en", "HasSupertype")));
+    }
+
+    @Test
+    public void testVariableTypeArrayDimensions() throws Exception {
+        UaVariableTypeNode cubeItemType = (UaVariableTypeNode) row("i=12057").createNode(null);
+
+        assertEquals(cubeItemType.getValueRank().intValue(), 3);
+        assertTrue(Arrays.equals(cubeItemType.getArrayDimensions().get(),
+                new UInteger[]{UInteger.valueOf(0L), UInteger.valueOf(0L), UInteger.valueOf(0L)}));
+    }
+
+    @Test
+    public void testValues() throws Exception {
+        Row namingRule = row("i=112");
+
+        assertTrue(namingRule.createNode(null) instanceof PropertyNode);
+        assertEquals(LoaderCache.variant(namingRule.getValue().get()).getValue(), 1);
+
+        Row dataTypeDescription = row("i=8208");
+        assertEquals(LoaderCache.variant(dataTypeDescription.getValue().get()).getValue(), "RedundantServerDataType");
+
+        // Too large for a table string; left out by the generator.
+        assertFalse(row("i=7617").getValue().isPresent());
+    }
+
+    @Test
+    public void testReferencesInBothDirections() {
+        NodeId mandatory = NodeId.parse("i=78");
+        NodeId namingRule = NodeId.parse("i=112");
+        NodeId hasProperty = NodeId.parse("i=46");
+
+        assertTrue(hasReference(row("i=78"), mandatory, hasProperty, namingRule, true));
+        assertTrue(hasReference(row("i=112"), namingRule, hasProperty, mandatory, false));
+    }
+
+    private Row row(String nodeId) {
+        return rowsById.get(NodeId.parse(nodeId));
+    }
+
+    private static boolean hasReference(Row row,
+                                        NodeId sourceNodeId,
+                                        NodeId referenceTypeId,
+                                        NodeId targetNodeId,
+                                        boolean forward) {
+
+        for (Reference reference : row.getReferences()) {
+            if (reference.getSourceNodeId().equals(sourceNodeId) &&
+                    reference.getReferenceTypeId().equals(referenceTypeId) &&
+                    reference.getTargetNodeId().local().equals(Optional.of(targetNodeId)) &&
+                    reference.isForward() == forward) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.subscriptions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.inductiveautomation.opcua.sdk.server.api.PublishingScheduler.PublishingTimer;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class HashedWheelPublishingSchedulerTest {
+
+    private long nanoTime;
+    private long elapsedMillis;
+
+    private HashedWheelPublishingScheduler scheduler;
+
+    @BeforeMethod
+    public void setUp() {
+        nanoTime = TimeUnit.SECONDS.toNanos(1);
+        elapsedMillis = 0L;
+
+        // 8 ticks of 10ms per wheel, run on the test thread as the clock is advanced.
+        scheduler = new HashedWheelPublishingScheduler(Runnable::run, 10, TimeUnit.MILLISECONDS, 8, () -> nanoTime);
+    }
+
+    @Test
+    public void testTimerIsPeriodic() {
+        AtomicInteger count = new AtomicInteger(0);
+
+        scheduler.schedule(count::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+        advanceTo(50);
+        assertEquals(count.get(), 0);
+
+        // Expired by the first tick at or after the deadline.
+        advanceTo(60);
+        assertEquals(count.get(), 1);
+
+        advanceTo(100);
+        assertEquals(count.get(), 1);
+
+        advanceTo(110);
+        assertEquals(count.get(), 2);
+
+        advanceTo(300);
+        assertEquals(count.get(), 5);
+    }
+
+    @Test
+    public void testTimerSpanningMultipleRounds() {
+        AtomicInteger count = new AtomicInteger(0);
+
+        scheduler.schedule(count::incrementAndGet, 250, TimeUnit.MILLISECONDS);
+
+        advanceTo(250);
+        assertEquals(count.get(), 0);
+
+        advanceTo(260);
+        assertEquals(count.get(), 1);
+
+        advanceTo(500);
+        assertEquals(count.get(), 1);
+
+        advanceTo(510);
+        assertEquals(count.get(), 2);
+    }
+
+    @Test
+    public void testCancelledTimerStops() {
+        AtomicInteger count = new AtomicInteger(0);
+
+        PublishingTimer timer = scheduler.schedule(count::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+
+        advanceTo(100);
+        assertEquals(count.get(), 4);
+
+        timer.cancel();
+
+        advanceTo(300);
+        assertEquals(count.get(), 4);
+    }
+
+    @Test
+    public void testMissedExecutionsAreSkipped() {
+        AtomicInteger count = new AtomicInteger(0);
+
+        scheduler.schedule(count::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+
+        // Nine deadlines pass before the wheel is advanced; the timer fires once, not nine times back-to-back.
+        nanoTime += TimeUnit.MILLISECONDS.toNanos(100);
+        elapsedMillis = 100;
+        scheduler.runDueTicks();
+        assertEquals(count.get(), 1);
+
+        advanceTo(120);
+        assertEquals(count.get(), 2);
+    }
+
+    @Test
+    public void testIntervalChangeTakesEffectAfterNextExecution() {
+        AtomicInteger count = new AtomicInteger(0);
+
+        PublishingTimer timer = scheduler.schedule(count::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+        timer.setInterval(100, TimeUnit.MILLISECONDS);
+
+        advanceTo(60);
+        assertEquals(count.get(), 1);
+
+        advanceTo(150);
+        assertEquals(count.get(), 1);
+
+        advanceTo(160);
+        assertEquals(count.get(), 2);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testSharedInstanceCannotBeShutDown() {
+        HashedWheelPublishingScheduler.getSharedInstance().shutdown();
+    }
+
+    /**
+     * Advance the clock one tick at a time, running each tick as it comes due.
+     */
+    private void advanceTo(long millis) {
+        while (elapsedMillis < millis) {
+            elapsedMillis++;
+            nanoTime += TimeUnit.MILLISECONDS.toNanos(1);
+
+            scheduler.runDueTicks();
+        }
+    }
+
+}
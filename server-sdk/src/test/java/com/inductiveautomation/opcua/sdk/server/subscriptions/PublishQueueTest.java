@@ -0,0 +1,241 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.subscriptions;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.inductiveautomation.opcua.stack.core.application.services.ServiceRequest;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishRequest;
+import com.inductiveautomation.opcua.stack.core.types.structured.PublishResponse;
+import com.inductiveautomation.opcua.stack.core.types.structured.RequestHeader;
+import com.inductiveautomation.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PublishQueueTest {
+
+    @Test
+    public void testRequestDeliveredToWaitingSubscription() {
+        PublishQueue publishQueue = new PublishQueue(Runnable::run);
+        RecordingSubscription subscription = new RecordingSubscription(1, 0);
+
+        publishQueue.addSubscription(subscription);
+        assertTrue(subscription.received.isEmpty());
+
+        ServiceRequest<PublishRequest, PublishResponse> service = publishRequest(1);
+        publishQueue.addRequest(service);
+
+        assertEquals(Lists.newArrayList(subscription.received), Lists.newArrayList(service));
+        assertFalse(publishQueue.isNotEmpty());
+    }
+
+    @Test
+    public void testWaitingSubscriptionTakesQueuedRequest() {
+        PublishQueue publishQueue = new PublishQueue(Runnable::run);
+        RecordingSubscription subscription = new RecordingSubscription(1, 0);
+
+        ServiceRequest<PublishRequest, PublishResponse> service = publishRequest(1);
+        publishQueue.addRequest(service);
+        assertTrue(publishQueue.isNotEmpty());
+
+        publishQueue.addSubscription(subscription);
+
+        assertEquals(Lists.newArrayList(subscription.received), Lists.newArrayList(service));
+        assertTrue(publishQueue.isEmpty());
+    }
+
+    @Test
+    public void testHighestPriorityThenLongestWaitingFirst() {
+        PublishQueue publishQueue = new PublishQueue(Runnable::run);
+
+        RecordingSubscription low = new RecordingSubscription(1, 1);
+        RecordingSubscription first = new RecordingSubscription(2, 200);
+        RecordingSubscription second = new RecordingSubscription(3, 200);
+
+        publishQueue.addSubscription(low);
+        publishQueue.addSubscription(first);
+        publishQueue.addSubscription(second);
+
+        publishQueue.addRequest(publishRequest(1));
+        assertEquals(first.received.size(), 1);
+
+        publishQueue.addRequest(publishRequest(2));
+        assertEquals(second.received.size(), 1);
+
+        publishQueue.addRequest(publishRequest(3));
+        assertEquals(low.received.size(), 1);
+    }
+
+    @Test
+    public void testSubscriptionWaitListedOnce() {
+        PublishQueue publishQueue = new PublishQueue(Runnable::run);
+        RecordingSubscription subscription = new RecordingSubscription(1, 0);
+
+        publishQueue.addSubscription(subscription);
+        publishQueue.addSubscription(subscription);
+
+        publishQueue.addRequest(publishRequest(1));
+        publishQueue.addRequest(publishRequest(2));
+
+        assertEquals(subscription.received.size(), 1);
+        assertTrue(publishQueue.isNotEmpty());
+    }
+
+    @Test
+    public void testDeliveryOrderedPerSubscription() {
+        Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        PublishQueue publishQueue = new PublishQueue(tasks::add);
+        RecordingSubscription subscription = new RecordingSubscription(1, 0);
+
+        ServiceRequest<PublishRequest, PublishResponse> service1 = publishRequest(1);
+        ServiceRequest<PublishRequest, PublishResponse> service2 = publishRequest(2);
+
+        publishQueue.addSubscription(subscription);
+        publishQueue.addRequest(service1);
+
+        // Wait-listed again while the first request is still on its way; must not be absorbed by the first match.
+        publishQueue.addSubscription(subscription);
+        publishQueue.addRequest(service2);
+
+        assertTrue(subscription.received.isEmpty());
+        assertEquals(tasks.size(), 1);
+
+        tasks.poll().run();
+
+        assertEquals(Lists.newArrayList(subscription.received), Lists.newArrayList(service1, service2));
+        assertTrue(publishQueue.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentAddAndPoll() throws InterruptedException {
+        int subscriptionCount = 16;
+        int threadCount = 4;
+        int requestsPerThread = 5000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            PublishQueue publishQueue = new PublishQueue(executor);
+            CountDownLatch delivered = new CountDownLatch(threadCount * requestsPerThread);
+
+            // Each Subscription wants another request as soon as it's handed one, like one with more notifications.
+            List<RecordingSubscription> subscriptions = Lists.newArrayList();
+            for (int i = 0; i < subscriptionCount; i++) {
+                subscriptions.add(new RecordingSubscription(i + 1, i % 4) {
+                    @Override
+                    void onPublish(ServiceRequest<PublishRequest, PublishResponse> service) {
+                        super.onPublish(service);
+                        publishQueue.addSubscription(this);
+                        delivered.countDown();
+                    }
+                });
+            }
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = Lists.newArrayList();
+
+            for (int t = 0; t < threadCount; t++) {
+                int offset = t * requestsPerThread;
+
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        // Redundant adds race with the matching of the same Subscription on other threads.
+                        publishQueue.addSubscription(subscriptions.get(random.nextInt(subscriptionCount)));
+                        publishQueue.addRequest(publishRequest(offset + i));
+                    }
+                });
+
+                thread.start();
+                threads.add(thread);
+            }
+
+            start.countDown();
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertTrue(delivered.await(10, TimeUnit.SECONDS), "requests left undelivered");
+            assertTrue(publishQueue.isEmpty());
+
+            Set<ServiceRequest<PublishRequest, PublishResponse>> unique = Sets.newIdentityHashSet();
+            int total = 0;
+
+            for (RecordingSubscription subscription : subscriptions) {
+                unique.addAll(subscription.received);
+                total += subscription.received.size();
+            }
+
+            assertEquals(total, threadCount * requestsPerThread);
+            assertEquals(unique.size(), total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ServiceRequest<PublishRequest, PublishResponse> publishRequest(long requestHandle) {
+        RequestHeader header = new RequestHeader(
+                NodeId.NULL_VALUE, DateTime.now(), uint(requestHandle), uint(0), null, uint(0), null);
+
+        return new ServiceRequest<>(
+                new PublishRequest(header, new SubscriptionAcknowledgement[0]), requestHandle, null, null);
+    }
+
+    /**
+     * A {@link Subscription} that records every request it's handed.
+     */
+    private static class RecordingSubscription extends Subscription {
+
+        private final Queue<ServiceRequest<PublishRequest, PublishResponse>> received =
+                new ConcurrentLinkedQueue<>();
+
+        private RecordingSubscription(long subscriptionId, int priority) {
+            super(null, uint(subscriptionId), 1000.0, 10, 30, 0, true, priority);
+        }
+
+        @Override
+        void onPublish(ServiceRequest<PublishRequest, PublishResponse> service) {
+            received.add(service);
+        }
+
+    }
+
+}
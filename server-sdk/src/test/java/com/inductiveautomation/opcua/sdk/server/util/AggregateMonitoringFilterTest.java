@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.sdk.server.util.AggregateMonitoringFilter.AggregateType;
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class AggregateMonitoringFilterTest {
+
+    private static final long START = 130000000000000000L;
+    private static final long TICKS_PER_MILLI = 10000L;
+
+    private final List<DataValue> results = Lists.newArrayList();
+
+    private long now;
+
+    @DataProvider
+    public Object[][] getAggregates() {
+        return new Object[][]{
+                {AggregateType.Interpolative, 10.0},
+                {AggregateType.Average, 25.0},
+                {AggregateType.TimeAverage, 25.0},
+                {AggregateType.Total, 25.0},
+                {AggregateType.Minimum, 10.0},
+                {AggregateType.Maximum, 40.0},
+                {AggregateType.Range, 30.0},
+                {AggregateType.Count, 4},
+                {AggregateType.Start, 10.0},
+                {AggregateType.End, 30.0},
+                {AggregateType.Delta, 20.0}
+        };
+    }
+
+    @Test(dataProvider = "getAggregates")
+    public void testAggregate(AggregateType type, Object expected) {
+        AggregateMonitoringFilter filter = filter(type);
+
+        sample(filter, 0, value(10.0, 0));
+        sample(filter, 250, value(20.0, 250));
+        sample(filter, 500, value(40.0, 500));
+        sample(filter, 750, value(30.0, 750));
+        assertTrue(results.isEmpty());
+
+        sample(filter, 1000, value(50.0, 1000));
+
+        assertEquals(results.size(), 1);
+        assertTrue(results.get(0).getStatusCode().isGood());
+        assertEquals(results.get(0).getSourceTime().getUtcTime(), START);
+        assertEquals(results.get(0).getValue().getValue(), expected);
+    }
+
+    @Test
+    public void testConstantValue() {
+        for (AggregateType type : AggregateType.values()) {
+            AggregateMonitoringFilter filter = filter(type);
+
+            // The value never changes, so every sample carries the same SourceTime from before the first interval.
+            for (long t = 0; t <= 2500; t += 100) {
+                sample(filter, t, value(5.0, -60000));
+            }
+
+            assertEquals(results.size(), 2, type.toString());
+
+            for (DataValue result : results) {
+                assertTrue(result.getStatusCode().isGood(), type.toString());
+            }
+        }
+
+        AggregateMonitoringFilter average = filter(AggregateType.Average);
+        for (long t = 0; t <= 2500; t += 100) {
+            sample(average, t, value(5.0, -60000));
+        }
+        assertEquals(results.get(0).getValue().getValue(), 5.0);
+        assertEquals(results.get(1).getValue().getValue(), 5.0);
+        assertEquals(results.get(1).getSourceTime().getUtcTime(), START + 1000 * TICKS_PER_MILLI);
+
+        AggregateMonitoringFilter count = filter(AggregateType.Count);
+        for (long t = 0; t <= 2500; t += 100) {
+            sample(count, t, value(5.0, -60000));
+        }
+        assertEquals(results.get(0).getValue().getValue(), 10);
+        assertEquals(results.get(1).getValue().getValue(), 10);
+    }
+
+    @Test
+    public void testEmptyIntervals() {
+        AggregateMonitoringFilter average = filter(AggregateType.Average);
+
+        sample(average, 0, value(10.0, 0));
+        sample(average, 500, value(20.0, 500));
+        sample(average, 3500, value(30.0, 3500));
+
+        assertEquals(results.size(), 3);
+        assertEquals(results.get(0).getValue().getValue(), 15.0);
+        assertEquals(results.get(1).getStatusCode().getValue(), StatusCodes.Bad_NoData);
+        assertEquals(results.get(1).getSourceTime().getUtcTime(), START + 1000 * TICKS_PER_MILLI);
+        assertEquals(results.get(2).getStatusCode().getValue(), StatusCodes.Bad_NoData);
+        assertEquals(results.get(2).getSourceTime().getUtcTime(), START + 2000 * TICKS_PER_MILLI);
+
+        AggregateMonitoringFilter count = filter(AggregateType.Count);
+
+        sample(count, 0, value(10.0, 0));
+        sample(count, 2500, value(20.0, 2500));
+
+        assertEquals(results.size(), 2);
+        assertTrue(results.get(1).getStatusCode().isGood());
+        assertEquals(results.get(1).getValue().getValue(), 0);
+
+        // Time-weighted aggregates carry the last value across an empty interval.
+        AggregateMonitoringFilter timeAverage = filter(AggregateType.TimeAverage);
+
+        sample(timeAverage, 0, value(10.0, 0));
+        sample(timeAverage, 500, value(20.0, 500));
+        sample(timeAverage, 2500, value(30.0, 2500));
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getValue().getValue(), 15.0);
+        assertEquals(results.get(1).getValue().getValue(), 20.0);
+    }
+
+    @Test
+    public void testOlderSourceTimeIsAccountedInOpenInterval() {
+        AggregateMonitoringFilter filter = filter(AggregateType.Start);
+
+        sample(filter, 0, value(10.0, 0));
+        sample(filter, 1200, value(20.0, 500));
+        sample(filter, 2000, value(30.0, 2000));
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getValue().getValue(), 10.0);
+        assertEquals(results.get(1).getValue().getValue(), 20.0);
+    }
+
+    @Test
+    public void testBadValues() {
+        AggregateMonitoringFilter filter = filter(AggregateType.Average);
+
+        sample(filter, 0, value(10.0, 0));
+        sample(filter, 500, new DataValue(Variant.NULL_VALUE, new StatusCode(StatusCodes.Bad_NoCommunication),
+                new DateTime(START + 500 * TICKS_PER_MILLI), null));
+        sample(filter, 1000, value(20.0, 1000));
+
+        assertEquals(results.size(), 1);
+        assertEquals(results.get(0).getStatusCode().getValue(), StatusCodes.Uncertain_DataSubNormal);
+        assertEquals(results.get(0).getValue().getValue(), 10.0);
+    }
+
+    private AggregateMonitoringFilter filter(AggregateType type) {
+        results.clear();
+
+        return new AggregateMonitoringFilter(type, new DateTime(START), 1000.0, false, () -> now);
+    }
+
+    private void sample(AggregateMonitoringFilter filter, long receivedMillis, DataValue value) {
+        now = START + receivedMillis * TICKS_PER_MILLI;
+
+        filter.update(value, results::add);
+    }
+
+    private static DataValue value(double value, long sourceMillis) {
+        return new DataValue(new Variant(value), StatusCode.GOOD,
+                new DateTime(START + sourceMillis * TICKS_PER_MILLI), null);
+    }
+
+}
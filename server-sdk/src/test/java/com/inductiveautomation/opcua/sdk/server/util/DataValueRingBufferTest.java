@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import java.util.NoSuchElementException;
+
+import com.inductiveautomation.opcua.stack.core.StatusCodes;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DateTime;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class DataValueRingBufferTest {
+
+    @DataProvider
+    public Object[][] getScalarValues() {
+        return new Object[][]{
+                {null},
+                {true},
+                {(byte) -1},
+                {(short) -2},
+                {-3},
+                {-4L},
+                {ubyte(5)},
+                {ushort(6)},
+                {uint(7)},
+                {8.5f},
+                {9.5}
+        };
+    }
+
+    @Test(dataProvider = "getScalarValues")
+    public void testScalarRoundTrip(Object o) {
+        DataValueRingBuffer buffer = new DataValueRingBuffer(2);
+        DataValue value = new DataValue(new Variant(o), new StatusCode(StatusCodes.Uncertain_LastUsableValue),
+                new DateTime(1000L), null);
+
+        assertTrue(buffer.accepts(value));
+        buffer.add(value);
+
+        DataValue removed = buffer.remove();
+
+        assertEquals(removed.getValue().getValue(), o);
+        assertEquals(removed.getStatusCode().getValue(), StatusCodes.Uncertain_LastUsableValue);
+        assertEquals(removed.getSourceTime().getUtcTime(), 1000L);
+        assertNull(removed.getServerTime());
+    }
+
+    @Test
+    public void testWraparound() {
+        DataValueRingBuffer buffer = new DataValueRingBuffer(3);
+
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(value(i));
+        }
+
+        assertEquals(buffer.size(), 3);
+        assertEquals(buffer.get(0).getValue().getValue(), 3.0);
+        assertEquals(buffer.get(2).getValue().getValue(), 5.0);
+
+        buffer.set(2, value(6));
+
+        assertEquals(buffer.remove().getValue().getValue(), 3.0);
+        assertEquals(buffer.remove().getValue().getValue(), 4.0);
+
+        buffer.add(value(7));
+        buffer.add(value(8));
+
+        assertEquals(buffer.size(), 3);
+        assertEquals(buffer.remove().getValue().getValue(), 6.0);
+        assertEquals(buffer.remove().getValue().getValue(), 7.0);
+        assertEquals(buffer.remove().getValue().getValue(), 8.0);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        new DataValueRingBuffer(1).remove();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testGetPastSize() {
+        DataValueRingBuffer buffer = new DataValueRingBuffer(2);
+        buffer.add(value(1));
+
+        buffer.get(1);
+    }
+
+    @Test
+    public void testRejectsNonScalarValues() {
+        DataValueRingBuffer buffer = new DataValueRingBuffer(2);
+
+        assertFalse(buffer.accepts(new DataValue(new Variant("x"))));
+        assertFalse(buffer.accepts(new DataValue(new Variant(new double[]{1.0}))));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testAddNonScalarValue() {
+        new DataValueRingBuffer(2).add(new DataValue(new Variant("x")));
+    }
+
+    @Test
+    public void testInflate() {
+        DataValueRingBuffer buffer = new DataValueRingBuffer(3);
+
+        for (int i = 1; i <= 4; i++) {
+            buffer.add(value(i));
+        }
+
+        RingBuffer<DataValue> inflated = buffer.inflate();
+
+        assertEquals(inflated.maxSize(), 3);
+        assertEquals(inflated.size(), 3);
+
+        inflated.add(new DataValue(new Variant("x")));
+
+        assertEquals(inflated.remove().getValue().getValue(), 3.0);
+        assertEquals(inflated.remove().getValue().getValue(), 4.0);
+        assertEquals(inflated.remove().getValue().getValue(), "x");
+    }
+
+    private static DataValue value(int i) {
+        return new DataValue(new Variant((double) i), StatusCode.GOOD, new DateTime(i), new DateTime(i));
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2014 Inductive Automation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.inductiveautomation.opcua.sdk.server.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.inductiveautomation.opcua.sdk.core.AttributeIds;
+import com.inductiveautomation.opcua.sdk.server.api.DataItem;
+import com.inductiveautomation.opcua.sdk.server.api.ReadWriteManager;
+import com.inductiveautomation.opcua.sdk.server.items.MonitoredDataItem;
+import com.inductiveautomation.opcua.stack.core.UaException;
+import com.inductiveautomation.opcua.stack.core.types.builtin.DataValue;
+import com.inductiveautomation.opcua.stack.core.types.builtin.NodeId;
+import com.inductiveautomation.opcua.stack.core.types.builtin.QualifiedName;
+import com.inductiveautomation.opcua.stack.core.types.builtin.StatusCode;
+import com.inductiveautomation.opcua.stack.core.types.builtin.Variant;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.MonitoringMode;
+import com.inductiveautomation.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.inductiveautomation.opcua.stack.core.types.structured.ReadValueId;
+import com.inductiveautomation.opcua.stack.core.types.structured.WriteValue;
+import org.testng.annotations.Test;
+
+import static com.inductiveautomation.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+public class SubscriptionModelTest {
+
+    @Test
+    public void testSlowReadSkipsTick() throws UaException {
+        MetricRegistry registry = new MetricRegistry();
+        String name = MetricRegistry.name(SubscriptionModel.class, "test", "overruns");
+
+        SlowReadWriteManager readWriteManager = new SlowReadWriteManager();
+        CapturingScheduler scheduler = new CapturingScheduler();
+
+        try {
+            SubscriptionModel model = new SubscriptionModel(
+                    readWriteManager, new DirectExecutorService(), scheduler, registry.counter(name));
+
+            model.onDataItemsCreated(ImmutableList.<DataItem>of(item()));
+
+            Runnable tick = scheduler.task;
+            assertNotNull(tick, "sampling wasn't scheduled");
+
+            tick.run();
+            assertEquals(readWriteManager.pending.size(), 1);
+
+            // The read is still outstanding, so this tick is skipped.
+            tick.run();
+            assertEquals(readWriteManager.pending.size(), 1);
+            assertEquals(registry.getCounters().get(name).getCount(), 1L);
+            assertEquals(model.getOverrunCounter().getCount(), 1L);
+
+            readWriteManager.pending.remove(0).complete(ImmutableList.of(new DataValue(new Variant(1.0))));
+
+            tick.run();
+            assertEquals(readWriteManager.pending.size(), 1);
+            assertEquals(registry.getCounters().get(name).getCount(), 1L);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static MonitoredDataItem item() throws UaException {
+        ReadValueId readValueId = new ReadValueId(
+                new NodeId(2, 1), uint(AttributeIds.Value), null, QualifiedName.NULL_VALUE);
+
+        return new MonitoredDataItem(
+                uint(1), readValueId, MonitoringMode.Reporting, TimestampsToReturn.Both,
+                uint(1), 1000.0, null, uint(1), true);
+    }
+
+    /**
+     * Holds on to every read's future instead of completing it.
+     */
+    private static class SlowReadWriteManager implements ReadWriteManager {
+
+        private final List<CompletableFuture<List<DataValue>>> pending = Lists.newArrayList();
+
+        @Override
+        public void read(List<ReadValueId> readValueIds,
+                         Double maxAge,
+                         TimestampsToReturn timestamps,
+                         CompletableFuture<List<DataValue>> future) {
+
+            pending.add(future);
+        }
+
+        @Override
+        public void write(List<WriteValue> writeValues, CompletableFuture<List<StatusCode>> future) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    /**
+     * Captures the sampling task so the test can run its ticks itself.
+     */
+    private static class CapturingScheduler extends ScheduledThreadPoolExecutor {
+
+        private volatile Runnable task;
+
+        private CapturingScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            task = command;
+
+            return schedule(() -> {}, 1, TimeUnit.DAYS);
+        }
+
+    }
+
+    private static class DirectExecutorService extends AbstractExecutorService {
+
+        private volatile boolean shutdown = false;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return ImmutableList.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+
+    }
+
+}